@@ -0,0 +1,112 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationStateData;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+
+/** Measures {@link AnimationState#update(float)} and {@link AnimationState#apply(Skeleton)} for a looping animation, with and
+ * without a second animation mixing in. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationStateBenchmark {
+	/** Skeleton export name and animation name, separated by a slash. */
+	@Param({"spineboy-pro/run", "raptor-pro/walk", "tank-pro/drive"}) public String example;
+
+	/** When true, a second track and a mix keep the mixing code paths busy. */
+	@Param({"false", "true"}) public boolean mixing;
+
+	/** When > 0, the animations are baked at this sample rate. */
+	@Param({"0", "60"}) public float bakeRate;
+
+	/** When true, the animations' Bezier curves are compacted. */
+	@Param({"false", "true"}) public boolean compact;
+
+	Skeleton skeleton;
+	AnimationState state;
+
+	@Setup
+	public void setup () {
+		String[] parts = example.split("/");
+		SkeletonData skeletonData = BenchmarkData.skeletonData(parts[0]);
+		if (compact) skeletonData.compactAnimations(Float.MAX_VALUE);
+		if (bakeRate > 0) skeletonData.bakeAnimations(bakeRate, Integer.MAX_VALUE);
+		skeleton = new Skeleton(skeletonData);
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(Float.MAX_VALUE);
+		state = new AnimationState(stateData);
+		state.setAnimation(0, parts[1], true);
+		if (mixing) {
+			// A mix that never completes: the first animation stays on as the mixing from entry.
+			String other = skeletonData.getAnimations().peek().getName();
+			state.setAnimation(0, other, true);
+			state.setAnimation(1, parts[1], true).setAlpha(0.5f);
+		}
+		state.update(0.25f);
+		state.apply(skeleton);
+		skeleton.updateWorldTransform();
+	}
+
+	@Benchmark
+	public void update () {
+		state.update(1 / 60f);
+	}
+
+	@Benchmark
+	public boolean apply () {
+		return state.apply(skeleton);
+	}
+
+	@Benchmark
+	public boolean updateAndApply () {
+		state.update(1 / 60f);
+		return state.apply(skeleton);
+	}
+}
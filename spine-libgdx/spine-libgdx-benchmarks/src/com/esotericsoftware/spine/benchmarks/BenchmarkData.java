@@ -0,0 +1,118 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.SkeletonJson;
+import com.esotericsoftware.spine.Skin;
+import com.esotericsoftware.spine.attachments.AttachmentLoader;
+import com.esotericsoftware.spine.attachments.BoundingBoxAttachment;
+import com.esotericsoftware.spine.attachments.ClippingAttachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.PathAttachment;
+import com.esotericsoftware.spine.attachments.PointAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Loads the skeletons in the repository's <code>examples</code> directory without a GL context. Region and mesh attachments
+ * get a texture region without a texture, so world vertices and clipping can be computed but nothing can be drawn.
+ * <p>
+ * The examples directory is taken from the <code>spine.examples</code> system property, which the <code>jmh</code> Gradle
+ * task sets. */
+public class BenchmarkData {
+	static public final AttachmentLoader attachmentLoader = new AttachmentLoader() {
+		public RegionAttachment newRegionAttachment (Skin skin, String name, String path) {
+			RegionAttachment attachment = new RegionAttachment(name);
+			attachment.setRegion(new TextureRegion());
+			return attachment;
+		}
+
+		public MeshAttachment newMeshAttachment (Skin skin, String name, String path) {
+			MeshAttachment attachment = new MeshAttachment(name);
+			attachment.setRegion(new TextureRegion());
+			return attachment;
+		}
+
+		public BoundingBoxAttachment newBoundingBoxAttachment (Skin skin, String name) {
+			return new BoundingBoxAttachment(name);
+		}
+
+		public ClippingAttachment newClippingAttachment (Skin skin, String name) {
+			return new ClippingAttachment(name);
+		}
+
+		public PathAttachment newPathAttachment (Skin skin, String name) {
+			return new PathAttachment(name);
+		}
+
+		public PointAttachment newPointAttachment (Skin skin, String name) {
+			return new PointAttachment(name);
+		}
+	};
+
+	/** @param name The export name, eg "spineboy-pro". The example directory is the name up to the last dash.
+	 * @param extension Either "json" or "skel". */
+	static public File file (String name, String extension) {
+		File examples = new File(System.getProperty("spine.examples", "../examples"));
+		String dir = name.substring(0, name.lastIndexOf('-'));
+		File file = new File(examples, dir + "/export/" + name + "." + extension);
+		if (!file.exists()) throw new IllegalArgumentException("Example skeleton not found: " + file.getAbsolutePath());
+		return file;
+	}
+
+	static public byte[] bytes (String name, String extension) {
+		File file = file(name, extension);
+		FileInputStream input = null;
+		try {
+			input = new FileInputStream(file);
+			return StreamUtils.copyStreamToByteArray(input, (int)file.length());
+		} catch (IOException ex) {
+			throw new RuntimeException("Error reading file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	static public SkeletonData skeletonData (String name) {
+		return new SkeletonBinary(attachmentLoader).readSkeletonData(new FileHandle(file(name, "skel")));
+	}
+
+	static public SkeletonData skeletonDataJson (String name) {
+		return new SkeletonJson(attachmentLoader).readSkeletonData(new FileHandle(file(name, "json")));
+	}
+}
@@ -0,0 +1,150 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.ClippingAttachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.esotericsoftware.spine.utils.SkeletonClipping;
+
+/** Measures {@link SkeletonClipping#clipStart(Slot, ClippingAttachment)} and
+ * {@link SkeletonClipping#clipTriangles(float[], int, short[], int, float[], float, float, boolean)} for the region and mesh
+ * attachments covered by the first clipping attachment in a posed skeleton. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkeletonClippingBenchmark {
+	static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
+
+	/** Skeleton export name and animation name, separated by a slash. */
+	@Param({"spineboy-pro/portal", "tank-pro/drive"}) public String example;
+
+	final SkeletonClipping clipper = new SkeletonClipping();
+	Slot clipSlot;
+	ClippingAttachment clip;
+	float[][] vertices;
+	short[][] triangles;
+	float[][] uvs;
+
+	@Setup
+	public void setup () {
+		String[] parts = example.split("/");
+		SkeletonData skeletonData = BenchmarkData.skeletonData(parts[0]);
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Animation animation = skeletonData.findAnimation(parts[1]);
+		animation.apply(skeleton, 0, animation.getDuration() / 2, true, null, 1, MixBlend.setup, MixDirection.in);
+		skeleton.updateWorldTransform();
+
+		// Collect the world vertices of the attachments between the clipping attachment and its end slot.
+		Array<float[]> vertices = new Array(float[].class);
+		Array<short[]> triangles = new Array(short[].class);
+		Array<float[]> uvs = new Array(float[].class);
+		for (Slot slot : skeleton.getDrawOrder()) {
+			if (!slot.getBone().isActive()) continue;
+			Attachment attachment = slot.getAttachment();
+			if (clip == null) {
+				if (attachment instanceof ClippingAttachment) {
+					clipSlot = slot;
+					clip = (ClippingAttachment)attachment;
+				}
+				continue;
+			}
+			if (attachment instanceof RegionAttachment) {
+				RegionAttachment region = (RegionAttachment)attachment;
+				float[] world = new float[8];
+				region.computeWorldVertices(slot.getBone(), world, 0, 2);
+				vertices.add(world);
+				triangles.add(quadTriangles);
+				uvs.add(region.getUVs());
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				float[] world = new float[mesh.getWorldVerticesLength()];
+				mesh.computeWorldVertices(slot, 0, world.length, world, 0, 2);
+				vertices.add(world);
+				triangles.add(mesh.getTriangles());
+				uvs.add(mesh.getUVs());
+			}
+			if (clip.getEndSlot() == slot.getData()) break;
+		}
+		if (clip == null) throw new IllegalStateException("No clipping attachment is visible: " + example);
+		this.vertices = vertices.toArray();
+		this.triangles = triangles.toArray();
+		this.uvs = uvs.toArray();
+
+		clipper.clipStart(clipSlot, clip);
+	}
+
+	@Benchmark
+	public boolean clipStart () {
+		clipper.clipEnd();
+		clipper.clipStart(clipSlot, clip);
+		return clipper.isClipping();
+	}
+
+	@Benchmark
+	public int clipTriangles () {
+		SkeletonClipping clipper = this.clipper;
+		float[][] vertices = this.vertices, uvs = this.uvs;
+		short[][] triangles = this.triangles;
+		int count = 0;
+		for (int i = 0, n = vertices.length; i < n; i++) {
+			short[] t = triangles[i];
+			clipper.clipTriangles(vertices[i], vertices[i].length, t, t.length, uvs[i], 0, 0, false);
+			count += clipper.getClippedTriangles().size;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,142 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.SkeletonJson;
+import com.esotericsoftware.spine.SkeletonLoader;
+
+/** Measures {@link SkeletonBinary#readSkeletonData(java.io.InputStream)}, {@link SkeletonBinary#readSkeletonData(ByteBuffer)},
+ * and {@link SkeletonJson#readSkeletonData(java.io.InputStream)}. The files are read or mapped into memory first so disk
+ * access is not measured. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkeletonLoaderBenchmark {
+	@Param({"spineboy-pro", "raptor-pro", "tank-pro", "owl-pro"}) public String name;
+
+	byte[] binary, json;
+	ByteBuffer binaryBuffer;
+	MappedByteBuffer binaryMapped;
+
+	@Setup
+	public void setup () throws IOException {
+		binary = BenchmarkData.bytes(name, "skel");
+		json = BenchmarkData.bytes(name, "json");
+		binaryBuffer = ByteBuffer.wrap(binary);
+		RandomAccessFile file = new RandomAccessFile(BenchmarkData.file(name, "skel"), "r");
+		try {
+			binaryMapped = file.getChannel().map(MapMode.READ_ONLY, 0, file.length());
+			binaryMapped.load();
+		} finally {
+			file.close();
+		}
+	}
+
+	@Benchmark
+	public SkeletonData readBinary () {
+		return new SkeletonBinary(BenchmarkData.attachmentLoader).readSkeletonData(new ByteArrayInputStream(binary));
+	}
+
+	@Benchmark
+	public SkeletonData readBinaryBuffer () {
+		return new SkeletonBinary(BenchmarkData.attachmentLoader).readSkeletonData(binaryBuffer);
+	}
+
+	@Benchmark
+	public SkeletonData readBinaryMapped () {
+		return new SkeletonBinary(BenchmarkData.attachmentLoader).readSkeletonData(binaryMapped);
+	}
+
+	/** Reads with {@link SkeletonBinary#setLazyAnimations(boolean)}, so animations are only scanned. */
+	@Benchmark
+	public SkeletonData readBinaryLazy () {
+		SkeletonBinary binary = new SkeletonBinary(BenchmarkData.attachmentLoader);
+		binary.setLazyAnimations(true);
+		return binary.readSkeletonData(binaryBuffer);
+	}
+
+	/** Decodes animations on the common {@link ForkJoinPool}. See {@link SkeletonLoader#setAnimationExecutor(ExecutorService)}. */
+	@Benchmark
+	public SkeletonData readBinaryParallel () {
+		SkeletonBinary binary = new SkeletonBinary(BenchmarkData.attachmentLoader);
+		binary.setAnimationExecutor(ForkJoinPool.commonPool());
+		return binary.readSkeletonData(binaryBuffer);
+	}
+
+	@Benchmark
+	public SkeletonData readJson () {
+		return new SkeletonJson(BenchmarkData.attachmentLoader).readSkeletonData(new ByteArrayInputStream(json));
+	}
+
+	/** Parses the whole file into a {@link JsonValue} tree first, as {@link SkeletonJson} did before reading sections. */
+	@Benchmark
+	public SkeletonData readJsonTree () {
+		JsonValue root = new JsonReader().parse(new ByteArrayInputStream(json));
+		return new SkeletonJson(BenchmarkData.attachmentLoader).readSkeletonData(root);
+	}
+
+	/** Parses and decodes animations on the common {@link ForkJoinPool}. */
+	@Benchmark
+	public SkeletonData readJsonParallel () {
+		SkeletonJson skeletonJson = new SkeletonJson(BenchmarkData.attachmentLoader);
+		skeletonJson.setAnimationExecutor(ForkJoinPool.commonPool());
+		return skeletonJson.readSkeletonData(new ByteArrayInputStream(json));
+	}
+}
@@ -0,0 +1,110 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationStateData;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.utils.SkeletonUpdateScheduler;
+
+/** Measures updating many skeletons with {@link SkeletonUpdateScheduler}, compared to updating them one after another on the
+ * benchmark thread. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkeletonUpdateSchedulerBenchmark {
+	/** Skeleton export name and animation name, separated by a slash. */
+	@Param({"spineboy-pro/run", "raptor-pro/walk"}) public String example;
+
+	@Param({"100", "1000"}) public int count;
+
+	/** When true, the skeletons are updated by the scheduler. */
+	@Param({"false", "true"}) public boolean parallel;
+
+	Skeleton[] skeletons;
+	AnimationState[] states;
+	ForkJoinPool pool;
+	SkeletonUpdateScheduler scheduler;
+
+	@Setup
+	public void setup () {
+		String[] parts = example.split("/");
+		SkeletonData skeletonData = BenchmarkData.skeletonData(parts[0]);
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		skeletons = new Skeleton[count];
+		states = new AnimationState[count];
+		pool = new ForkJoinPool();
+		scheduler = new SkeletonUpdateScheduler(pool);
+		for (int i = 0; i < count; i++) {
+			skeletons[i] = new Skeleton(skeletonData);
+			states[i] = new AnimationState(stateData);
+			states[i].setAnimation(0, parts[1], true).setTrackTime(i * 0.01f);
+			if (parallel) scheduler.add(skeletons[i], states[i]);
+		}
+	}
+
+	@TearDown
+	public void tearDown () {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public void update () {
+		if (parallel) {
+			scheduler.update(1 / 60f);
+			return;
+		}
+		for (int i = 0; i < count; i++) {
+			states[i].update(1 / 60f);
+			states[i].apply(skeletons[i]);
+			skeletons[i].updateWorldTransform();
+		}
+	}
+}
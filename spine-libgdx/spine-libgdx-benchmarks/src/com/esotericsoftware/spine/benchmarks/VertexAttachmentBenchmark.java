@@ -0,0 +1,127 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Measures {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)} for every vertex attachment that
+ * is visible in a posed skeleton, and the same using the world vertices cached by the slots. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VertexAttachmentBenchmark {
+	/** Skeleton export name and animation name, separated by a slash. */
+	@Param({"spineboy-pro/run", "raptor-pro/walk", "tank-pro/drive", "stretchyman-pro/sneak"}) public String example;
+
+	/** When true, large weighted meshes are transformed one bone at a time, see {@link MeshAttachment#getBoneInfluences()}. */
+	@Param({"false", "true"}) public boolean boneInfluences;
+
+	Slot[] slots;
+	VertexAttachment[] attachments;
+	float[] worldVertices;
+
+	@Setup
+	public void setup () {
+		String[] parts = example.split("/");
+		SkeletonData skeletonData = BenchmarkData.skeletonData(parts[0]);
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Animation animation = skeletonData.findAnimation(parts[1]);
+		animation.apply(skeleton, 0, animation.getDuration() / 2, true, null, 1, MixBlend.setup, MixDirection.in);
+		skeleton.updateWorldTransform();
+
+		Array<Slot> slots = new Array(Slot.class);
+		Array<VertexAttachment> attachments = new Array(VertexAttachment.class);
+		int max = 0;
+		for (Slot slot : skeleton.getDrawOrder()) {
+			if (!slot.getBone().isActive()) continue;
+			Attachment attachment = slot.getAttachment();
+			if (!(attachment instanceof VertexAttachment)) continue;
+			VertexAttachment vertexAttachment = (VertexAttachment)attachment;
+			if (attachment instanceof MeshAttachment) ((MeshAttachment)attachment).setBoneInfluences(boneInfluences);
+			slots.add(slot);
+			attachments.add(vertexAttachment);
+			max = Math.max(max, vertexAttachment.getWorldVerticesLength());
+		}
+		this.slots = slots.toArray();
+		this.attachments = attachments.toArray();
+		worldVertices = new float[max];
+	}
+
+	@Benchmark
+	public float[] computeWorldVertices () {
+		Slot[] slots = this.slots;
+		VertexAttachment[] attachments = this.attachments;
+		float[] worldVertices = this.worldVertices;
+		for (int i = 0, n = slots.length; i < n; i++) {
+			VertexAttachment attachment = attachments[i];
+			attachment.computeWorldVertices(slots[i], 0, attachment.getWorldVerticesLength(), worldVertices, 0, 2);
+		}
+		return worldVertices;
+	}
+
+	/** Uses {@link Slot#computeWorldVertices(VertexAttachment, float[], int, int)}. The pose does not change, so the world
+	 * vertices computed the first time are reused. */
+	@Benchmark
+	public float[] computeWorldVerticesCached () {
+		Slot[] slots = this.slots;
+		VertexAttachment[] attachments = this.attachments;
+		float[] worldVertices = this.worldVertices;
+		for (int i = 0, n = slots.length; i < n; i++)
+			slots[i].computeWorldVertices(attachments[i], worldVertices, 0, 2);
+		return worldVertices;
+	}
+}
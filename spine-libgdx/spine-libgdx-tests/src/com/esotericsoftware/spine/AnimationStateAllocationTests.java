@@ -0,0 +1,147 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.lang.management.ManagementFactory;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.ScaleTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TranslateTimeline;
+import com.esotericsoftware.spine.AnimationState.AnimationStateAdapter;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+
+/** Checks that once warmed up, updating and applying an {@link AnimationState} allocates nothing, including frames where
+ * animations are set, mixed, interrupted, completed, and events are fired. */
+public class AnimationStateAllocationTests {
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private int eventCount;
+
+	final SkeletonBinary binary = new SkeletonBinary(new TestAttachmentLoader());
+
+	public AnimationStateAllocationTests () {
+		test(binary.readSkeletonData(new LwjglFileHandle("spineboy/spineboy-pro.skel", FileType.Internal)));
+		if (eventCount == 0) throw new FailException("No events were fired.");
+
+		// Enough timelines that the set of property IDs used for mixing has to grow large.
+		test(largeSkeletonData(800));
+
+		System.out.println("AnimationState allocation tests passed.");
+	}
+
+	private void test (SkeletonData skeletonData) {
+		Skeleton skeleton = new Skeleton(skeletonData);
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.2f);
+		AnimationState state = new AnimationState(stateData);
+		state.addListener(new AnimationStateAdapter() {
+			public void event (TrackEntry entry, Event event) {
+				eventCount++;
+			}
+
+			public void complete (TrackEntry entry) {
+				eventCount++;
+			}
+		});
+
+		// Warm up so pools, arrays, and sets have grown to their steady state size.
+		Array<Animation> animations = skeletonData.getAnimations();
+		int frame = 0;
+		for (; frame < 5000; frame++)
+			frame(skeleton, state, animations, frame);
+
+		// Each window plays every combination of animations on both tracks. The JIT can rarely allocate when it deoptimizes, so
+		// a few windows are tried. Allocating in the steady state allocates in every window.
+		long threadId = Thread.currentThread().getId(), allocated = 0;
+		for (int window = 0; window < 5; window++) {
+			long start = threads.getThreadAllocatedBytes(threadId);
+			long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+			start = threads.getThreadAllocatedBytes(threadId);
+			for (int end = frame + 180 * animations.size; frame < end; frame++)
+				frame(skeleton, state, animations, frame);
+			allocated = threads.getThreadAllocatedBytes(threadId) - start - overhead;
+			if (allocated == 0) return;
+		}
+		throw new FailException(skeletonData.getName() + " allocated bytes after warmup: " + allocated);
+	}
+
+	private void frame (Skeleton skeleton, AnimationState state, Array<Animation> animations, int frame) {
+		// Every 20 frames change the animation on track 0 and every 45 frames on track 1, so mixes overlap and are interrupted.
+		if (frame % 20 == 0) state.setAnimation(0, animations.get((frame / 20) % animations.size), true);
+		if (frame % 45 == 0) {
+			state.setAnimation(1, animations.get((frame / 45) % animations.size), false).setAlpha(0.5f);
+			state.addEmptyAnimation(1, 0.1f, 0.3f);
+		}
+		state.update(1 / 60f);
+		state.apply(skeleton);
+		skeleton.updateWorldTransform();
+	}
+
+	private SkeletonData largeSkeletonData (int boneCount) {
+		SkeletonData skeletonData = new SkeletonData();
+		skeletonData.setName("large");
+		BoneData root = new BoneData(0, "root", null);
+		skeletonData.getBones().add(root);
+		for (int i = 1; i < boneCount; i++)
+			skeletonData.getBones().add(new BoneData(i, "bone" + i, root));
+
+		for (int a = 0; a < 3; a++) {
+			Array<Timeline> timelines = new Array();
+			for (int i = 0; i < boneCount; i++) {
+				RotateTimeline rotate = new RotateTimeline(2, 0, i);
+				rotate.setFrame(0, 0, 0);
+				rotate.setFrame(1, 1, 90 * a);
+				TranslateTimeline translate = new TranslateTimeline(2, 0, i);
+				translate.setFrame(0, 0, 0, 0);
+				translate.setFrame(1, 1, a, i);
+				ScaleTimeline scale = new ScaleTimeline(2, 0, i);
+				scale.setFrame(0, 0, 1, 1);
+				scale.setFrame(1, 1, a, 2);
+				timelines.addAll(rotate, translate, scale);
+			}
+			skeletonData.getAnimations().add(new Animation("animation" + a, timelines, 1));
+		}
+		return skeletonData;
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationStateAllocationTests();
+	}
+}
@@ -0,0 +1,138 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+
+/** Unit tests for {@link Skeleton#setFrozen(Bone, boolean)}. */
+public class FrozenBonesTests {
+	final SkeletonBinary binary = new SkeletonBinary(new TestAttachmentLoader());
+	final SkeletonData skeletonData;
+	final Animation animation;
+
+	public FrozenBonesTests () {
+		skeletonData = binary.readSkeletonData(new LwjglFileHandle("raptor/raptor-pro.skel", FileType.Internal));
+		animation = skeletonData.findAnimation("walk");
+
+		test("tail1");
+		test("front-thigh");
+
+		System.out.println("Frozen bones tests passed.");
+	}
+
+	private void test (String boneName) {
+		Skeleton skeleton = new Skeleton(skeletonData), expected = new Skeleton(skeletonData);
+		Array<Bone> bones = skeleton.getBones();
+		int boneCount = bones.size;
+
+		pose(skeleton, 0.3f);
+		skeleton.setFrozen(skeleton.findBone(boneName), true);
+		float[] frozenX = new float[boneCount], frozenY = new float[boneCount];
+		for (int i = 0; i < boneCount; i++) {
+			frozenX[i] = bones.get(i).getWorldX();
+			frozenY[i] = bones.get(i).getWorldY();
+		}
+
+		// Frozen bones stay still, even when their local transforms change.
+		for (int frame = 0; frame < 5; frame++) {
+			skeleton.setBonesToSetupPose();
+			animation.apply(skeleton, 0, 0.3f, true, null, 1, MixBlend.setup, MixDirection.in);
+			for (Bone bone : bones)
+				if (bone.isFrozen()) bone.setRotation(bone.getRotation() + 5);
+			skeleton.updateWorldTransform();
+			checkFrozen(bones, frozenX, frozenY, 0, boneName + ", still");
+		}
+
+		// Frozen bones move with their unfrozen parent.
+		skeleton.setX(10);
+		pose(skeleton, 0.3f);
+		checkFrozen(bones, frozenX, frozenY, 10, boneName + ", moved");
+		skeleton.setX(0);
+
+		// Unfrozen bones are posed the same as when nothing is frozen.
+		for (float time = 0; time < animation.getDuration(); time += 0.05f) {
+			pose(skeleton, time);
+			pose(expected, time);
+			for (int i = 0; i < boneCount; i++)
+				if (!bones.get(i).isFrozen()) check(bones.get(i), expected.getBones().get(i), boneName + ", unfrozen bones");
+		}
+
+		// All bones are posed the same after unfreezing.
+		skeleton.setFrozen(skeleton.findBone(boneName), false);
+		pose(skeleton, 0.7f);
+		pose(expected, 0.7f);
+		for (int i = 0; i < boneCount; i++)
+			check(bones.get(i), expected.getBones().get(i), boneName + ", unfrozen");
+	}
+
+	private void pose (Skeleton skeleton, float time) {
+		skeleton.setBonesToSetupPose();
+		animation.apply(skeleton, 0, time, true, null, 1, MixBlend.setup, MixDirection.in);
+		skeleton.updateWorldTransform();
+	}
+
+	private void checkFrozen (Array<Bone> bones, float[] frozenX, float[] frozenY, float offsetX, String message) {
+		int frozenCount = 0;
+		for (int i = 0, n = bones.size; i < n; i++) {
+			Bone bone = bones.get(i);
+			if (!bone.isFrozen()) continue;
+			frozenCount++;
+			if (!equal(bone.getWorldX(), frozenX[i] + offsetX) || !equal(bone.getWorldY(), frozenY[i]))
+				throw new FailException("Frozen bone moved: " + message + ", " + bone);
+		}
+		if (frozenCount == 0) throw new FailException("No bones are frozen: " + message);
+	}
+
+	private void check (Bone actual, Bone expected, String message) {
+		if (!equal(actual.getA(), expected.getA()) || !equal(actual.getB(), expected.getB())
+			|| !equal(actual.getC(), expected.getC()) || !equal(actual.getD(), expected.getD())
+			|| !equal(actual.getWorldX(), expected.getWorldX()) || !equal(actual.getWorldY(), expected.getWorldY()))
+			throw new FailException("Wrong world transform: " + message + ", " + actual);
+	}
+
+	private boolean equal (float a, float b) {
+		return Math.abs(a - b) < 0.0001f;
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new FrozenBonesTests();
+	}
+}
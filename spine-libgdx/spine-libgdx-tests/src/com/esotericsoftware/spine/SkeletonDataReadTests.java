@@ -0,0 +1,210 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import com.esotericsoftware.spine.Animation.DeformTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Skin.SkinEntry;
+import com.esotericsoftware.spine.attachments.Attachment;
+
+/** Checks that skeleton data is the same when read in each supported way: binary data with animations decoded eagerly, lazily,
+ * and in parallel by an animation executor, and JSON data streamed from the file and from a {@link JsonValue} tree. Every example
+ * skeleton is read and its timelines are compared frame by frame. */
+public class SkeletonDataReadTests {
+	final ExecutorService executor = Executors.newFixedThreadPool(4);
+	int files;
+
+	public SkeletonDataReadTests () {
+		try {
+			for (FileHandle example : new LwjglFileHandle("../../../examples", FileType.Internal).list()) {
+				for (FileHandle file : example.child("export").list()) {
+					String extension = file.extension();
+					if (extension.equals("skel"))
+						testBinary(file);
+					else if (extension.equals("json"))
+						testJson(file);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		if (files == 0) throw new FailException("No skeleton files were read.");
+
+		System.out.println("SkeletonData read tests passed.");
+	}
+
+	private void testBinary (FileHandle file) {
+		SkeletonData expected = new SkeletonBinary(new TestAttachmentLoader()).readSkeletonData(file);
+
+		SkeletonBinary binary = new SkeletonBinary(new TestAttachmentLoader());
+		binary.setLazyAnimations(true);
+		SkeletonData lazy = binary.readSkeletonData(file);
+		// Decode the animations in reverse order, so each is found without decoding the ones before it.
+		for (int i = lazy.getAnimations().size - 1; i >= 0; i--)
+			lazy.getAnimations().get(i).load();
+		check(lazy, expected, file.name() + ", lazy");
+
+		binary = new SkeletonBinary(new TestAttachmentLoader());
+		binary.setAnimationExecutor(executor);
+		check(binary.readSkeletonData(file), expected, file.name() + ", executor");
+		files++;
+	}
+
+	private void testJson (FileHandle file) {
+		SkeletonData expected = new SkeletonJson(new TestAttachmentLoader()).readSkeletonData(new JsonReader().parse(file));
+		expected.setName(file.nameWithoutExtension());
+
+		check(new SkeletonJson(new TestAttachmentLoader()).readSkeletonData(file), expected, file.name() + ", streamed");
+
+		SkeletonJson json = new SkeletonJson(new TestAttachmentLoader());
+		json.setAnimationExecutor(executor);
+		check(json.readSkeletonData(file), expected, file.name() + ", executor");
+		files++;
+	}
+
+	private void check (SkeletonData actual, SkeletonData expected, String message) {
+		checkFields(actual, expected, message);
+		checkItems(actual.getBones(), expected.getBones(), message + ", bones");
+		checkItems(actual.getSlots(), expected.getSlots(), message + ", slots");
+		checkItems(actual.getEvents(), expected.getEvents(), message + ", events");
+		checkItems(actual.getIkConstraints(), expected.getIkConstraints(), message + ", ik constraints");
+		checkItems(actual.getTransformConstraints(), expected.getTransformConstraints(), message + ", transform constraints");
+		checkItems(actual.getPathConstraints(), expected.getPathConstraints(), message + ", path constraints");
+
+		Array<Skin> skins = actual.getSkins(), expectedSkins = expected.getSkins();
+		if (skins.size != expectedSkins.size) throw new FailException("Wrong skin count: " + message);
+		for (int i = 0; i < skins.size; i++) {
+			Skin skin = skins.get(i), expectedSkin = expectedSkins.get(i);
+			String skinMessage = message + ", skin " + expectedSkin.getName();
+			check(skin.getName(), expectedSkin.getName(), skinMessage);
+			checkValue(skin.getBones(), expectedSkin.getBones(), skinMessage + ", bones");
+			checkValue(skin.getConstraints(), expectedSkin.getConstraints(), skinMessage + ", constraints");
+			Array<SkinEntry> entries = skin.getAttachments(), expectedEntries = expectedSkin.getAttachments();
+			if (entries.size != expectedEntries.size) throw new FailException("Wrong attachment count: " + skinMessage);
+			for (SkinEntry entry : expectedEntries) {
+				Attachment attachment = skin.getAttachment(entry.getSlotIndex(), entry.getName());
+				checkValue(attachment, entry.getAttachment(), skinMessage + ", " + entry.getName());
+			}
+		}
+
+		Array<Animation> animations = actual.getAnimations(), expectedAnimations = expected.getAnimations();
+		if (animations.size != expectedAnimations.size) throw new FailException("Wrong animation count: " + message);
+		for (int i = 0; i < animations.size; i++) {
+			Animation animation = animations.get(i), expectedAnimation = expectedAnimations.get(i);
+			String animationMessage = message + ", animation " + expectedAnimation.getName();
+			check(animation.getName(), expectedAnimation.getName(), animationMessage);
+			check(animation.getDuration(), expectedAnimation.getDuration(), animationMessage + ", duration");
+			checkItems(animation.getTimelines(), expectedAnimation.getTimelines(), animationMessage);
+		}
+	}
+
+	private void checkItems (Array actual, Array expected, String message) {
+		if (actual.size != expected.size) throw new FailException("Wrong count: " + message);
+		for (int i = 0; i < actual.size; i++)
+			checkFields(actual.get(i), expected.get(i), message + ", " + i);
+	}
+
+	/** Compares the fields of objects read from the skeleton data. */
+	private void checkFields (Object actual, Object expected, String message) {
+		if (actual.getClass() != expected.getClass())
+			throw new FailException("Wrong class: " + message + ", " + actual.getClass() + " != " + expected.getClass());
+		for (Class type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+				if (field.getType() == Array.class && !Timeline.class.isAssignableFrom(type)) continue; // Compared separately.
+				// A deform timeline's property IDs include the ID of its attachment, which is different for each read.
+				if (expected instanceof DeformTimeline && field.getName().equals("propertyIds")) continue;
+				field.setAccessible(true);
+				try {
+					checkValue(field.get(actual), field.get(expected), message + ", " + type.getSimpleName() + "." + field.getName());
+				} catch (IllegalAccessException ex) {
+					throw new RuntimeException(ex);
+				}
+			}
+		}
+	}
+
+	/** Compares values by content. Other objects read from the skeleton data, such as bones or attachments, are compared by class
+	 * and name, except timelines and events which are compared field by field. */
+	private void checkValue (Object actual, Object expected, String message) {
+		if (actual == null || expected == null) {
+			if (actual != expected) throw new FailException("Wrong value: " + message + ", " + actual + " != " + expected);
+			return;
+		}
+		if (actual.getClass() != expected.getClass())
+			throw new FailException("Wrong class: " + message + ", " + actual.getClass() + " != " + expected.getClass());
+		Class type = expected.getClass();
+		if (type.isArray()) {
+			int length = java.lang.reflect.Array.getLength(expected);
+			if (java.lang.reflect.Array.getLength(actual) != length) throw new FailException("Wrong length: " + message);
+			for (int i = 0; i < length; i++)
+				checkValue(java.lang.reflect.Array.get(actual, i), java.lang.reflect.Array.get(expected, i), message + "[" + i + "]");
+		} else if (actual instanceof Array) {
+			Array actualArray = (Array)actual, expectedArray = (Array)expected;
+			if (actualArray.size != expectedArray.size) throw new FailException("Wrong size: " + message);
+			for (int i = 0; i < expectedArray.size; i++)
+				checkValue(actualArray.get(i), expectedArray.get(i), message + "[" + i + "]");
+		} else if (actual instanceof Timeline || actual instanceof Event)
+			checkFields(actual, expected, message);
+		else if (actual instanceof Number || actual instanceof Boolean || actual instanceof Character || actual instanceof String
+			|| actual instanceof Enum || actual instanceof Color)
+			check(actual, expected, message);
+		else
+			check(actual.toString(), expected.toString(), message);
+	}
+
+	private void check (Object actual, Object expected, String message) {
+		if (!actual.equals(expected)) throw new FailException("Wrong value: " + message + ", " + actual + " != " + expected);
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonDataReadTests();
+	}
+}
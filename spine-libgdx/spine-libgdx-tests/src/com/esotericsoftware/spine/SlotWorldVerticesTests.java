@@ -0,0 +1,99 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Checks that the world vertices cached by {@link Slot#computeWorldVertices(VertexAttachment, float[], int, int)} are the same
+ * as those computed by {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)}, including for frames
+ * where the pose does not change and where only the skeleton position changes. */
+public class SlotWorldVerticesTests {
+	final SkeletonBinary binary = new SkeletonBinary(new TestAttachmentLoader());
+	final float[] computed = new float[4096], cached = new float[4096];
+	int checks;
+
+	public SlotWorldVerticesTests () {
+		test("spineboy/spineboy-pro.skel");
+		test("raptor/raptor-pro.skel");
+		test("goblins/goblins-pro.skel");
+		test("coin/coin-pro.skel");
+		if (checks == 0) throw new FailException("No world vertices were checked.");
+
+		System.out.println("Slot world vertices tests passed.");
+	}
+
+	private void test (String path) {
+		SkeletonData skeletonData = binary.readSkeletonData(new LwjglFileHandle(path, FileType.Internal));
+		Skeleton skeleton = new Skeleton(skeletonData);
+		int frame = 0;
+		for (Animation animation : skeletonData.getAnimations()) {
+			skeleton.setToSetupPose();
+			for (float time = 0, duration = animation.getDuration(); time <= duration; frame++) {
+				if (frame % 7 == 0) skeleton.setX(skeleton.getX() + 1);
+				animation.apply(skeleton, time, time, true, null, 1, MixBlend.replace, MixDirection.in);
+				skeleton.updateWorldTransform();
+				check(skeleton, path + ", " + animation.getName() + ", " + time);
+				if (frame % 3 != 0) time += 1 / 30f; // Some frames are repeated.
+			}
+		}
+	}
+
+	private void check (Skeleton skeleton, String frame) {
+		for (Slot slot : skeleton.getDrawOrder()) {
+			Attachment attachment = slot.getAttachment();
+			if (!(attachment instanceof VertexAttachment)) continue;
+			VertexAttachment vertexAttachment = (VertexAttachment)attachment;
+			int count = vertexAttachment.getWorldVerticesLength();
+			vertexAttachment.computeWorldVertices(slot, 0, count, computed, 0, 2);
+			slot.computeWorldVertices(vertexAttachment, cached, 0, 2);
+			for (int i = 0; i < count; i++) {
+				if (cached[i] != computed[i])
+					throw new FailException("Wrong world vertices: " + frame + ", " + slot + ", " + cached[i] + " != " + computed[i]);
+			}
+			checks++;
+		}
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SlotWorldVerticesTests();
+	}
+}
@@ -0,0 +1,172 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+import com.esotericsoftware.spine.Animation.TimelineGroups;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+
+/** Checks that applying an animation's timelines grouped by type, as {@link Animation} and {@link AnimationState} do, gives the
+ * same pose and events as applying them in the animation's order. */
+public class TimelineGroupsTests {
+	final SkeletonBinary binary = new SkeletonBinary(new TestAttachmentLoader());
+	final Array<Event> events = new Array(), expectedEvents = new Array();
+	int checks;
+
+	public TimelineGroupsTests () {
+		test("spineboy/spineboy-pro.skel");
+		test("raptor/raptor-pro.skel");
+		test("goblins/goblins-pro.skel");
+		test("coin/coin-pro.skel");
+		test("mix-and-match/mix-and-match-pro.skel");
+		if (checks == 0) throw new FailException("No poses were checked.");
+
+		System.out.println("TimelineGroups tests passed.");
+	}
+
+	private void test (String path) {
+		SkeletonData skeletonData = binary.readSkeletonData(new LwjglFileHandle(path, FileType.Internal));
+		SkeletonData expectedData = binary.readSkeletonData(new LwjglFileHandle(path, FileType.Internal));
+		for (Animation animation : expectedData.getAnimations()) {
+			animation.load();
+			animation.groups = new TimelineGroups(animation.getTimelines(), true);
+		}
+		Skeleton skeleton = new Skeleton(skeletonData), expected = new Skeleton(expectedData);
+		Array<Animation> animations = skeletonData.getAnimations(), expectedAnimations = expectedData.getAnimations();
+
+		// Animation apply.
+		for (int i = 0; i < animations.size; i++) {
+			Animation animation = animations.get(i), expectedAnimation = expectedAnimations.get(i);
+			for (float time = 0, duration = animation.getDuration(); time <= duration; time += 1 / 30f) {
+				for (MixBlend blend : MixBlend.values()) {
+					skeleton.setToSetupPose();
+					expected.setToSetupPose();
+					events.clear();
+					expectedEvents.clear();
+					animation.apply(skeleton, time - 0.1f, time, true, events, 0.7f, blend, MixDirection.in);
+					expectedAnimation.apply(expected, time - 0.1f, time, true, expectedEvents, 0.7f, blend, MixDirection.in);
+					check(skeleton, expected, path + ", " + animation.getName() + ", " + blend + ", " + time);
+				}
+			}
+		}
+
+		// AnimationState with mixing and an additive track.
+		if (skeletonData.getSkins().size > 1) {
+			skeleton.setSkin(skeletonData.getSkins().get(1).getName());
+			expected.setSkin(expectedData.getSkins().get(1).getName());
+		}
+		skeleton.setToSetupPose();
+		expected.setToSetupPose();
+		AnimationState state = newState(skeletonData), expectedState = newState(expectedData);
+		events.clear();
+		expectedEvents.clear();
+		for (int frame = 0, frames = animations.size * 60 + 60; frame < frames; frame++) {
+			state.update(1 / 60f);
+			expectedState.update(1 / 60f);
+			state.apply(skeleton);
+			expectedState.apply(expected);
+			check(skeleton, expected, path + ", AnimationState, frame " + frame);
+		}
+	}
+
+	private AnimationState newState (SkeletonData skeletonData) {
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.3f);
+		AnimationState state = new AnimationState(stateData);
+		Array<Animation> animations = skeletonData.getAnimations();
+		for (int i = 0; i < animations.size; i++)
+			state.addAnimation(0, animations.get(i), false, 0.5f);
+		if (animations.size > 1) {
+			TrackEntry entry = state.setAnimation(1, animations.peek(), true);
+			entry.setMixBlend(MixBlend.add);
+			entry.setAlpha(0.5f);
+		}
+		return state;
+	}
+
+	private void check (Skeleton skeleton, Skeleton expected, String message) {
+		skeleton.updateWorldTransform();
+		expected.updateWorldTransform();
+
+		Array<Bone> bones = skeleton.getBones(), expectedBones = expected.getBones();
+		for (int i = 0; i < bones.size; i++) {
+			Bone bone = bones.get(i), expectedBone = expectedBones.get(i);
+			if (bone.getA() != expectedBone.getA() || bone.getB() != expectedBone.getB() || bone.getC() != expectedBone.getC()
+				|| bone.getD() != expectedBone.getD() || bone.getWorldX() != expectedBone.getWorldX()
+				|| bone.getWorldY() != expectedBone.getWorldY())
+				throw new FailException("Wrong world transform: " + message + ", " + bone);
+		}
+
+		Array<Slot> slots = skeleton.getSlots(), expectedSlots = expected.getSlots();
+		for (int i = 0; i < slots.size; i++) {
+			Slot slot = slots.get(i), expectedSlot = expectedSlots.get(i);
+			if (!slot.getColor().equals(expectedSlot.getColor()) || slot.getDarkColor() != null
+				&& !slot.getDarkColor().equals(expectedSlot.getDarkColor()))
+				throw new FailException("Wrong color: " + message + ", " + slot);
+			String name = slot.getAttachment() == null ? null : slot.getAttachment().getName();
+			String expectedName = expectedSlot.getAttachment() == null ? null : expectedSlot.getAttachment().getName();
+			if (name == null ? expectedName != null : !name.equals(expectedName))
+				throw new FailException("Wrong attachment: " + message + ", " + slot + ", " + name + " != " + expectedName);
+			FloatArray deform = slot.getDeform(), expectedDeform = expectedSlot.getDeform();
+			if (deform.size != expectedDeform.size) throw new FailException("Wrong deform: " + message + ", " + slot);
+			for (int ii = 0; ii < deform.size; ii++)
+				if (deform.get(ii) != expectedDeform.get(ii)) throw new FailException("Wrong deform: " + message + ", " + slot);
+		}
+
+		Array<Slot> drawOrder = skeleton.getDrawOrder(), expectedDrawOrder = expected.getDrawOrder();
+		for (int i = 0; i < drawOrder.size; i++) {
+			if (drawOrder.get(i).getData().getIndex() != expectedDrawOrder.get(i).getData().getIndex())
+				throw new FailException("Wrong draw order: " + message);
+		}
+
+		if (events.size != expectedEvents.size) throw new FailException("Wrong events: " + message);
+		for (int i = 0; i < events.size; i++) {
+			if (!events.get(i).getData().getName().equals(expectedEvents.get(i).getData().getName()))
+				throw new FailException("Wrong event: " + message + ", " + events.get(i));
+		}
+		checks++;
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new TimelineGroupsTests();
+	}
+}
@@ -33,56 +33,69 @@ import static com.esotericsoftware.spine.Animation.MixBlend.*;
 import static com.esotericsoftware.spine.Animation.MixDirection.*;
 import static com.esotericsoftware.spine.utils.SpineUtils.*;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.Null;
-import com.badlogic.gdx.utils.ObjectSet;
 
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.VertexAttachment;
+import com.esotericsoftware.spine.utils.LongSet;
 
 /** Stores a list of timelines to animate a skeleton's pose over time. */
 public class Animation {
 	final String name;
 	Array<Timeline> timelines;
-	final ObjectSet<String> timelineIds;
+	final LongSet timelineIds;
 	float duration;
+	@Null AnimationBake bake;
+	@Null TimelineGroups groups;
+	@Null volatile SkeletonBinary.LazyAnimations lazy;
 
 	public Animation (String name, Array<Timeline> timelines, float duration) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
 		this.name = name;
 		this.duration = duration;
-		timelineIds = new ObjectSet(timelines.size);
+		timelineIds = new LongSet(timelines.size);
 		setTimelines(timelines);
 	}
 
 	/** If the returned array or the timelines it contains are modified, {@link #setTimelines(Array)} must be called. */
 	public Array<Timeline> getTimelines () {
+		load();
 		return timelines;
 	}
 
 	public void setTimelines (Array<Timeline> timelines) {
 		if (timelines == null) throw new IllegalArgumentException("timelines cannot be null.");
 		this.timelines = timelines;
+		bake = null;
+		groups = null;
 
 		int n = timelines.size;
 		timelineIds.clear(n);
 		Object[] items = timelines.items;
 		for (int i = 0; i < n; i++)
 			timelineIds.addAll(((Timeline)items[i]).getPropertyIds());
+		lazy = null; // Last, so other threads that see the animation as loaded also see its timelines and timeline IDs.
 	}
 
 	/** Returns true if this animation contains a timeline with any of the specified property IDs. */
-	public boolean hasTimeline (String[] propertyIds) {
-		for (String id : propertyIds)
-			if (timelineIds.contains(id)) return true;
+	public boolean hasTimeline (long[] propertyIds) {
+		load();
+		for (int i = 0, n = propertyIds.length; i < n; i++)
+			if (timelineIds.contains(propertyIds[i])) return true;
 		return false;
 	}
 
 	/** The duration of the animation in seconds, which is usually the highest time of all frames in the timeline. The duration is
 	 * used to know when it has completed and when it should loop back to the start. */
 	public float getDuration () {
+		load();
 		return duration;
 	}
 
@@ -90,6 +103,57 @@ public class Animation {
 		this.duration = duration;
 	}
 
+	/** Samples the bone and slot color timelines at the specified rate so they can be applied without evaluating their curves.
+	 * Any previous bake is replaced.
+	 * @param sampleRate The number of samples per second.
+	 * @param maxBytes The maximum number of bytes the bake may use.
+	 * @return False if the bake would use more than <code>maxBytes</code>, in which case the animation is not baked.
+	 * @see AnimationBake */
+	public boolean bake (SkeletonData skeletonData, float sampleRate, int maxBytes) {
+		if (skeletonData == null) throw new IllegalArgumentException("skeletonData cannot be null.");
+		if (sampleRate <= 0) throw new IllegalArgumentException("sampleRate must be > 0: " + sampleRate);
+		load();
+		long memory = AnimationBake.memory(AnimationBake.sampleCount(this, sampleRate), AnimationBake.channelCount(this),
+			timelines.size);
+		if (memory > maxBytes) return false;
+		bake = new AnimationBake(this, skeletonData, sampleRate);
+		return true;
+	}
+
+	/** The sampled timeline values used when applying this animation, or null if the animation is not baked. */
+	public @Null AnimationBake getBake () {
+		return bake;
+	}
+
+	/** Discards the bake, if any, so the timelines are applied normally. */
+	public void clearBake () {
+		bake = null;
+	}
+
+	/** Compacts the Bezier curves of each {@link CurveTimeline} and the vertices of each {@link DeformTimeline}.
+	 * @return The number of bytes saved.
+	 * @see CurveTimeline#compact(float)
+	 * @see DeformTimeline#compactVertices() */
+	public int compact (float maxError) {
+		int saved = 0;
+		Object[] timelines = getTimelines().items;
+		for (int i = 0, n = this.timelines.size; i < n; i++) {
+			Object timeline = timelines[i];
+			if (timeline instanceof CurveTimeline) saved += ((CurveTimeline)timeline).compact(maxError);
+			if (timeline instanceof DeformTimeline) saved += ((DeformTimeline)timeline).compactVertices();
+		}
+		return saved;
+	}
+
+	/** The largest {@link CurveTimeline#getCompactError()} of this animation's timelines. */
+	public float getCompactError () {
+		float error = 0;
+		Object[] timelines = getTimelines().items;
+		for (int i = 0, n = this.timelines.size; i < n; i++)
+			if (timelines[i] instanceof CurveTimeline) error = Math.max(error, ((CurveTimeline)timelines[i]).compactError);
+		return error;
+	}
+
 	/** Applies the animation's timelines to the specified skeleton.
 	 * <p>
 	 * See Timeline {@link Timeline#apply(Skeleton, float, float, Array, float, MixBlend, MixDirection)}.
@@ -113,6 +177,7 @@ public class Animation {
 	public void apply (Skeleton skeleton, float lastTime, float time, boolean loop, @Null Array<Event> events, float alpha,
 		MixBlend blend, MixDirection direction) {
 		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		load();
 
 		if (loop && duration != 0) {
 			time %= duration;
@@ -120,8 +185,36 @@ public class Animation {
 		}
 
 		Object[] timelines = this.timelines.items;
-		for (int i = 0, n = this.timelines.size; i < n; i++)
-			((Timeline)timelines[i]).apply(skeleton, lastTime, time, events, alpha, blend, direction);
+		AnimationBake bake = this.bake;
+		boolean[] baked = null;
+		if (bake != null && direction == MixDirection.in) {
+			bake.apply(skeleton, time, alpha, blend);
+			baked = bake.baked;
+		}
+		TimelineGroups groups = getTimelineGroups();
+		for (int g = 0, n = groups.types.length; g < n; g++)
+			groups.apply(g, timelines, baked, skeleton, lastTime, time, events, alpha, blend, direction, null);
+	}
+
+	/** Returns the timelines grouped by type, building the groups the first time or after {@link #setTimelines(Array)}. */
+	TimelineGroups getTimelineGroups () {
+		TimelineGroups groups = this.groups;
+		if (groups == null) {
+			groups = new TimelineGroups(timelines);
+			this.groups = groups;
+		}
+		return groups;
+	}
+
+	/** Returns false if the timelines have not yet been decoded. See {@link SkeletonBinary#setLazyAnimations(boolean)}. */
+	public boolean isLoaded () {
+		return lazy == null;
+	}
+
+	/** Decodes the timelines if they have not yet been decoded. See {@link SkeletonBinary#setLazyAnimations(boolean)}. */
+	public void load () {
+		SkeletonBinary.LazyAnimations lazy = this.lazy;
+		if (lazy != null) lazy.load(this);
 	}
 
 	/** The animation's name, which is unique across all animations in the skeleton. */
@@ -169,29 +262,237 @@ public class Animation {
 		in, out
 	}
 
+	/** The indices of an animation's timelines, grouped so each group has timelines of a single type. Applying a group calls
+	 * {@link Timeline#apply(Skeleton, float, float, Array, float, MixBlend, MixDirection, int[], int)} from a call site that only
+	 * sees that type, which the JIT can inline, rather than from one call site that sees every timeline type.
+	 * <p>
+	 * Timelines which affect the same property, or the same slot, are applied in the same order as in the animation. Others may be
+	 * applied in any order, since the result is the same. */
+	static class TimelineGroups {
+		static final int OTHER = 0, ROTATE = 1, TRANSLATE = 2, TRANSLATE_X = 3, TRANSLATE_Y = 4, SCALE = 5, SCALE_X = 6,
+			SCALE_Y = 7, SHEAR = 8, SHEAR_X = 9, SHEAR_Y = 10, RGBA = 11, ATTACHMENT = 12, DEFORM = 13;
+		static private final int typeCount = 14;
+
+		/** The timeline indices for all groups. */
+		final int[] indices;
+		/** The start of each group in {@link #indices}, followed by the end of the last group. */
+		final int[] starts;
+		/** The timeline type of each group. */
+		final int[] types;
+
+		TimelineGroups (Array<Timeline> timelines) {
+			this(timelines, false);
+		}
+
+		/** @param keepOrder If true, the timelines are applied in the same order as in the animation and only consecutive timelines
+		 *           of the same type are grouped. */
+		TimelineGroups (Array<Timeline> timelines, boolean keepOrder) {
+			int n = timelines.size;
+			Object[] items = timelines.items;
+
+			// A timeline's level is one more than the highest level of the earlier timelines it must be applied after.
+			int[] levels = new int[n], timelineTypes = new int[n];
+			LongMap<Integer> lastLevels = new LongMap();
+			int levelCount = 0;
+			for (int i = 0; i < n; i++) {
+				Timeline timeline = (Timeline)items[i];
+				timelineTypes[i] = type(timeline);
+				if (keepOrder) {
+					if (i > 0 && timelineTypes[i] != timelineTypes[i - 1]) levelCount++;
+					levels[i] = levelCount;
+					continue;
+				}
+				long[] ids = timeline.getPropertyIds();
+				int level = 0;
+				for (long id : ids)
+					level = Math.max(level, lastLevels.get(id, -1) + 1);
+				// Setting an attachment can clear the slot's deform, so all timelines for a slot keep their order.
+				long slotId = timeline instanceof SlotTimeline ? ~(long)((SlotTimeline)timeline).getSlotIndex() : 0;
+				if (slotId != 0) level = Math.max(level, lastLevels.get(slotId, -1) + 1);
+				for (long id : ids)
+					lastLevels.put(id, level);
+				if (slotId != 0) lastLevels.put(slotId, level);
+				levels[i] = level;
+				levelCount = Math.max(levelCount, level + 1);
+			}
+			if (keepOrder && n > 0) levelCount++;
+
+			IntArray indices = new IntArray(n), starts = new IntArray(), types = new IntArray();
+			for (int level = 0; level < levelCount; level++) {
+				for (int type = 0; type < typeCount; type++) {
+					int start = indices.size;
+					for (int i = 0; i < n; i++)
+						if (levels[i] == level && timelineTypes[i] == type) indices.add(i);
+					if (indices.size > start) {
+						starts.add(start);
+						types.add(type);
+					}
+				}
+			}
+			starts.add(indices.size);
+			this.indices = indices.toArray();
+			this.starts = starts.toArray();
+			this.types = types.toArray();
+		}
+
+		/** Applies the timelines in a group.
+		 * @param skip May be null. Timelines whose index is true are not applied.
+		 * @param cursors May be null. Each timeline's index is used as its cursor. */
+		void apply (int group, Object[] timelines, @Null boolean[] skip, Skeleton skeleton, float lastTime, float time,
+			@Null Array<Event> events, float alpha, MixBlend blend, MixDirection direction, @Null int[] cursors) {
+			int[] indices = this.indices;
+			int start = starts[group], end = starts[group + 1];
+			switch (types[group]) {
+			case ROTATE:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((RotateTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case TRANSLATE:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((TranslateTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case TRANSLATE_X:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((TranslateXTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case TRANSLATE_Y:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((TranslateYTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SCALE:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ScaleTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SCALE_X:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ScaleXTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SCALE_Y:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ScaleYTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SHEAR:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ShearTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SHEAR_X:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ShearXTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case SHEAR_Y:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((ShearYTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case RGBA:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((RGBATimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case ATTACHMENT:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((AttachmentTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			case DEFORM:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index]) ((DeformTimeline)timelines[index]).apply(skeleton, lastTime, time, events,
+						alpha, blend, direction, cursors, index);
+				}
+				break;
+			default:
+				for (int i = start; i < end; i++) {
+					int index = indices[i];
+					if (skip == null || !skip[index])
+						((Timeline)timelines[index]).apply(skeleton, lastTime, time, events, alpha, blend, direction, cursors, index);
+				}
+			}
+		}
+
+		static private int type (Timeline timeline) {
+			if (timeline instanceof RotateTimeline) return ROTATE;
+			if (timeline instanceof TranslateTimeline) return TRANSLATE;
+			if (timeline instanceof TranslateXTimeline) return TRANSLATE_X;
+			if (timeline instanceof TranslateYTimeline) return TRANSLATE_Y;
+			if (timeline instanceof ScaleTimeline) return SCALE;
+			if (timeline instanceof ScaleXTimeline) return SCALE_X;
+			if (timeline instanceof ScaleYTimeline) return SCALE_Y;
+			if (timeline instanceof ShearTimeline) return SHEAR;
+			if (timeline instanceof ShearXTimeline) return SHEAR_X;
+			if (timeline instanceof ShearYTimeline) return SHEAR_Y;
+			if (timeline instanceof RGBATimeline) return RGBA;
+			if (timeline instanceof AttachmentTimeline) return ATTACHMENT;
+			if (timeline instanceof DeformTimeline) return DEFORM;
+			return OTHER;
+		}
+	}
+
 	static private enum Property {
 		rotate, x, y, scaleX, scaleY, shearX, shearY, //
 		rgb, alpha, rgb2, //
 		attachment, deform, //
 		event, drawOrder, //
 		ikConstraint, transformConstraint, //
-		pathConstraintPosition, pathConstraintSpacing, pathConstraintMix
+		pathConstraintPosition, pathConstraintSpacing, pathConstraintMix;
+
+		/** Packs the property type and the bone, slot, or constraint index into a property ID. */
+		long id (int index) {
+			return (long)ordinal() << 56 | (long)index << 32;
+		}
+
+		long id (int index, int attachmentId) {
+			return id(index) | attachmentId & 0xffffffffL;
+		}
 	}
 
 	/** The base class for all timelines. */
 	static public abstract class Timeline {
-		private final String[] propertyIds;
+		private final long[] propertyIds;
 		final float[] frames;
 
 		/** @param propertyIds Unique identifiers for the properties the timeline modifies. */
-		public Timeline (int frameCount, String... propertyIds) {
+		public Timeline (int frameCount, long... propertyIds) {
 			if (propertyIds == null) throw new IllegalArgumentException("propertyIds cannot be null.");
 			this.propertyIds = propertyIds;
 			frames = new float[frameCount * getFrameEntries()];
 		}
 
 		/** Uniquely encodes both the type of this timeline and the skeleton properties that it affects. */
-		public String[] getPropertyIds () {
+		public long[] getPropertyIds () {
 			return propertyIds;
 		}
 
@@ -236,24 +537,54 @@ public class Animation {
 		abstract public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha,
 			MixBlend blend, MixDirection direction);
 
-		/** Linear search using a stride of 1.
+		/** Applies this timeline to the skeleton, starting the search for the frame at <code>time</code> from a cached frame index.
+		 * See {@link #apply(Skeleton, float, float, Array, float, MixBlend, MixDirection)}. The default implementation ignores the
+		 * cached frame index.
+		 * @param cursors Stores the frame index found by the last apply, which is updated. May be null to not use a cached frame
+		 *           index. {@link AnimationState} keeps one per timeline for each track entry.
+		 * @param cursor The index in <code>cursors</code> for this timeline. */
+		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
+			MixDirection direction, @Null int[] cursors, int cursor) {
+			apply(skeleton, lastTime, time, events, alpha, blend, direction);
+		}
+
+		/** Binary search using a stride of 1.
 		 * @param time Must be >= the first value in <code>frames</code>.
-		 * @return The index of the first value <= <code>time</code>. */
+		 * @return The index of the last value <= <code>time</code>. */
 		static int search (float[] frames, float time) {
-			int n = frames.length;
-			for (int i = 1; i < n; i++)
-				if (frames[i] > time) return i - 1;
-			return n - 1;
+			return search(frames, time, 1);
 		}
 
-		/** Linear search using the specified stride.
+		/** Binary search using the specified stride.
 		 * @param time Must be >= the first value in <code>frames</code>.
-		 * @return The index of the first value <= <code>time</code>. */
+		 * @return The index of the last value <= <code>time</code>. */
 		static int search (float[] frames, float time, int step) {
-			int n = frames.length;
-			for (int i = step; i < n; i += step)
-				if (frames[i] > time) return i - step;
-			return n - step;
+			int low = 0, high = frames.length / step - 1;
+			while (low < high) {
+				int mid = (low + high + 1) >>> 1;
+				if (frames[mid * step] <= time)
+					low = mid;
+				else
+					high = mid - 1;
+			}
+			return low * step;
+		}
+
+		/** Search using the specified stride which starts at the index stored in <code>cursors</code>, then stores the result
+		 * there. When time moves forward the search continues from the last index, so applying a timeline every frame is amortized
+		 * O(1). When time moves backward (eg the animation loops or a track entry's time is changed) or jumps many frames, a binary
+		 * search is used.
+		 * @param time Must be >= the first value in <code>frames</code>.
+		 * @param cursors May be null to always use a binary search.
+		 * @return The index of the last value <= <code>time</code>. */
+		static int search (float[] frames, float time, int step, @Null int[] cursors, int cursor) {
+			if (cursors == null) return search(frames, time, step);
+			int i = cursors[cursor], last = frames.length - step;
+			if (i <= last && frames[i] <= time) {
+				for (int n = 0; n < 4; n++, i += step)
+					if (i == last || frames[i + step] > time) return cursors[cursor] = i;
+			}
+			return cursors[cursor] = search(frames, time, step);
 		}
 	}
 
@@ -273,16 +604,53 @@ public class Animation {
 	static public abstract class CurveTimeline extends Timeline {
 		static public final int LINEAR = 0, STEPPED = 1, BEZIER = 2, BEZIER_SIZE = 18;
 
+		/** Least squares weights for recovering a Bezier curve's handles from its segments, see {@link #compact(float)}: the
+		 * weights for each segment's handle 1 and handle 2, then how much the curve's start and end contribute to each handle. */
+		static private final float[] handleWeights = new float[BEZIER_SIZE + 4];
+		static {
+			double aa = 0, ab = 0, bb = 0;
+			for (int k = 1; k <= 9; k++) {
+				double t = k / 10d, a = 3 * (1 - t) * (1 - t) * t, b = 3 * (1 - t) * t * t;
+				aa += a * a;
+				ab += a * b;
+				bb += b * b;
+			}
+			double det = aa * bb - ab * ab, start1 = 0, end1 = 0, start2 = 0, end2 = 0;
+			for (int k = 1; k <= 9; k++) {
+				double t = k / 10d, a = 3 * (1 - t) * (1 - t) * t, b = 3 * (1 - t) * t * t;
+				double w1 = (bb * a - ab * b) / det, w2 = (aa * b - ab * a) / det;
+				handleWeights[(k - 1) << 1] = (float)w1;
+				handleWeights[((k - 1) << 1) + 1] = (float)w2;
+				start1 += w1 * (1 - t) * (1 - t) * (1 - t);
+				end1 += w1 * t * t * t;
+				start2 += w2 * (1 - t) * (1 - t) * (1 - t);
+				end2 += w2 * t * t * t;
+			}
+			handleWeights[BEZIER_SIZE] = (float)start1;
+			handleWeights[BEZIER_SIZE + 1] = (float)end1;
+			handleWeights[BEZIER_SIZE + 2] = (float)start2;
+			handleWeights[BEZIER_SIZE + 3] = (float)end2;
+		}
+
 		float[] curves;
+		@Null short[] handles;
+		float handleTimeOffset, handleTimeStep, handleValueOffset, handleValueStep, compactError;
 
 		/** @param bezierCount The maximum number of Bezier curves. See {@link #shrink(int)}.
 		 * @param propertyIds Unique identifiers for the properties the timeline modifies. */
-		public CurveTimeline (int frameCount, int bezierCount, String... propertyIds) {
+		public CurveTimeline (int frameCount, int bezierCount, long... propertyIds) {
 			super(frameCount, propertyIds);
 			curves = new float[frameCount + bezierCount * BEZIER_SIZE];
 			curves[frameCount - 1] = STEPPED;
 		}
 
+		/** Calls {@link #apply(Skeleton, float, float, Array, float, MixBlend, MixDirection, int[], int)} without a cached frame
+		 * index. Subclasses must override one of the two apply methods. */
+		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
+			MixDirection direction) {
+			apply(skeleton, lastTime, time, events, alpha, blend, direction, null, 0);
+		}
+
 		/** Sets the specified frame to linear interpolation.
 		 * @param frame Between 0 and <code>frameCount - 1</code>, inclusive. */
 		public void setLinear (int frame) {
@@ -305,6 +673,7 @@ public class Animation {
 		/** Shrinks the storage for Bezier curves, for use when <code>bezierCount</code> (specified in the constructor) was larger
 		 * than the actual number of Bezier curves. */
 		public void shrink (int bezierCount) {
+			if (handles != null) return;
 			int size = getFrameCount() + bezierCount * BEZIER_SIZE;
 			if (curves.length > size) {
 				float[] newCurves = new float[size];
@@ -329,6 +698,7 @@ public class Animation {
 		 * @param value2 The value for the second key. */
 		public void setBezier (int bezier, int frame, int value, float time1, float value1, float cx1, float cy1, float cx2,
 			float cy2, float time2, float value2) {
+			if (handles != null) throw new IllegalStateException("Bezier curves cannot be set after compact.");
 			float[] curves = this.curves;
 			int i = getFrameCount() + bezier * BEZIER_SIZE;
 			if (value == 0) curves[frame] = BEZIER + i;
@@ -354,6 +724,11 @@ public class Animation {
 		 * @param valueOffset The offset from <code>frameIndex</code> to the value this curve is used for.
 		 * @param i The index of the Bezier segments. See {@link #getCurveType(int)}. */
 		public float getBezierValue (float time, int frameIndex, int valueOffset, int i) {
+			if (handles != null) {
+				int next = frameIndex + getFrameEntries();
+				return getCompactValue(time, i, frames[frameIndex], frames[frameIndex + valueOffset], frames[next],
+					frames[next + valueOffset]);
+			}
 			float[] curves = this.curves;
 			if (curves[i] > time) {
 				float x = frames[frameIndex], y = frames[frameIndex + valueOffset];
@@ -370,6 +745,174 @@ public class Animation {
 			float x = curves[n - 2], y = curves[n - 1];
 			return y + (time - x) / (frames[frameIndex] - x) * (frames[frameIndex + valueOffset] - y);
 		}
+
+		/** The number of values that have a Bezier curve when a frame uses {@link #BEZIER}. */
+		int getCurveCount () {
+			return getFrameEntries() - 1;
+		}
+
+		/** Returns the value a frame's Bezier curve starts from.
+		 * @param value The index of the curve for the frame.
+		 * @param end If true, returns the value the curve ends at instead. */
+		float getCurveEnd (int frame, int value, boolean end) {
+			if (end) frame++;
+			return frames[frame * getFrameEntries() + 1 + value];
+		}
+
+		/** Replaces the precomputed Bezier segments with each curve's handles, quantized to 16 bits using a scale and offset for
+		 * this timeline. The segments are computed from the handles each time a curve is evaluated, which is slower. This uses 8
+		 * bytes per curve rather than 72.
+		 * <p>
+		 * {@link #setBezier(int, int, int, float, float, float, float, float, float, float, float)} cannot be used afterward.
+		 * @param maxError The largest allowed difference between the values of a curve's segments before and after compacting.
+		 * @return The number of bytes saved, or 0 if this timeline has no Bezier curves, is already compact, or the error is
+		 *         larger than <code>maxError</code>, in which case the timeline is unchanged. */
+		public int compact (float maxError) {
+			if (handles != null) return 0;
+			float[] frames = this.frames, curves = this.curves;
+			int frameCount = getFrameCount(), entries = getFrameEntries(), curveCount = getCurveCount();
+
+			// Recover each curve's handles from its segments. The time of each handle is relative to the frame times.
+			int bezierCount = 0;
+			for (int frame = 0; frame < frameCount - 1; frame++) {
+				int i = (int)curves[frame] - BEZIER;
+				if (i >= 0) bezierCount = Math.max(bezierCount, (i - frameCount) / BEZIER_SIZE + curveCount);
+			}
+			if (bezierCount == 0) return 0;
+			float[] recovered = new float[bezierCount << 2];
+			float minTime = Float.MAX_VALUE, maxTime = -Float.MAX_VALUE, minValue = Float.MAX_VALUE, maxValue = -Float.MAX_VALUE;
+			for (int frame = 0; frame < frameCount - 1; frame++) {
+				int start = (int)curves[frame] - BEZIER;
+				if (start < 0) continue;
+				float time1 = frames[frame * entries], time2 = frames[(frame + 1) * entries], range = time2 - time1;
+				for (int value = 0; value < curveCount; value++) {
+					int i = start + value * BEZIER_SIZE;
+					float value1 = getCurveEnd(frame, value, false), value2 = getCurveEnd(frame, value, true);
+					float[] weights = handleWeights;
+					float start1 = weights[BEZIER_SIZE], end1 = weights[BEZIER_SIZE + 1];
+					float start2 = weights[BEZIER_SIZE + 2], end2 = weights[BEZIER_SIZE + 3];
+					float cx1 = -start1 * time1 - end1 * time2, cy1 = -start1 * value1 - end1 * value2;
+					float cx2 = -start2 * time1 - end2 * time2, cy2 = -start2 * value1 - end2 * value2;
+					for (int k = 0; k < BEZIER_SIZE; k += 2) {
+						float x = curves[i + k], y = curves[i + k + 1], w1 = weights[k], w2 = weights[k + 1];
+						cx1 += w1 * x;
+						cy1 += w1 * y;
+						cx2 += w2 * x;
+						cy2 += w2 * y;
+					}
+					float u1 = range == 0 ? 0 : (cx1 - time1) / range, u2 = range == 0 ? 0 : (cx2 - time1) / range;
+					int r = (i - frameCount) / BEZIER_SIZE << 2;
+					recovered[r] = u1;
+					recovered[r + 1] = cy1;
+					recovered[r + 2] = u2;
+					recovered[r + 3] = cy2;
+					minTime = Math.min(minTime, Math.min(u1, u2));
+					maxTime = Math.max(maxTime, Math.max(u1, u2));
+					minValue = Math.min(minValue, Math.min(cy1, cy2));
+					maxValue = Math.max(maxValue, Math.max(cy1, cy2));
+				}
+			}
+
+			// Quantize the handles.
+			short[] handles = new short[recovered.length];
+			float timeStep = (maxTime - minTime) / 65535, valueStep = (maxValue - minValue) / 65535;
+			for (int i = 0, n = recovered.length; i < n; i += 2) {
+				handles[i] = quantize(recovered[i], minTime, timeStep);
+				handles[i + 1] = quantize(recovered[i + 1], minValue, valueStep);
+			}
+			this.handles = handles;
+			handleTimeOffset = minTime;
+			handleTimeStep = timeStep;
+			handleValueOffset = minValue;
+			handleValueStep = valueStep;
+
+			// Measure the error of the segments' values.
+			float error = 0;
+			float[] segments = new float[BEZIER_SIZE];
+			for (int frame = 0; frame < frameCount - 1; frame++) {
+				int start = (int)curves[frame] - BEZIER;
+				if (start < 0) continue;
+				float time1 = frames[frame * entries], time2 = frames[(frame + 1) * entries];
+				for (int value = 0; value < curveCount; value++) {
+					int i = start + value * BEZIER_SIZE;
+					float value1 = getCurveEnd(frame, value, false), value2 = getCurveEnd(frame, value, true);
+					compactSegments(i, time1, value1, time2, value2, segments, 0);
+					for (int k = 1; k < BEZIER_SIZE; k += 2)
+						error = Math.max(error, Math.abs(segments[k] - curves[i + k]));
+				}
+			}
+			if (!(error <= maxError)) {
+				this.handles = null;
+				return 0;
+			}
+			compactError = error;
+
+			int saved = (curves.length - frameCount << 2) - (handles.length << 1);
+			float[] newCurves = new float[frameCount];
+			arraycopy(curves, 0, newCurves, 0, frameCount);
+			this.curves = newCurves;
+			return saved;
+		}
+
+		static private short quantize (float value, float offset, float step) {
+			return (short)((step == 0 ? 0 : Math.round((value - offset) / step)) - 32768);
+		}
+
+		/** True if {@link #compact(float)} has replaced the Bezier segments with handles. */
+		public boolean isCompact () {
+			return handles != null;
+		}
+
+		/** The largest difference between the values of a curve's segments before and after {@link #compact(float)}, or 0 if not
+		 * compact. */
+		public float getCompactError () {
+			return compactError;
+		}
+
+		/** Evaluates a compact Bezier curve using the same segments as {@link #setBezier(int, int, int, float, float, float, float,
+		 * float, float, float, float)}.
+		 * @param i The index of the Bezier segments. See {@link #getCurveType(int)}. */
+		float getCompactValue (float time, int i, float time1, float value1, float time2, float value2) {
+			return compactSegments(i, time1, value1, time2, value2, null, time);
+		}
+
+		/** Computes the segments of a compact Bezier curve from its handles, the same as {@link #setBezier(int, int, int, float,
+		 * float, float, float, float, float, float, float)}.
+		 * @param segments If not null, all segments are stored, for measuring the error, and 0 is returned.
+		 * @return The value for <code>time</code>, found by walking the segments until one ends at or after it. */
+		private float compactSegments (int i, float time1, float value1, float time2, float value2, @Null float[] segments,
+			float time) {
+			short[] handles = this.handles;
+			int h = (i - getFrameCount()) / BEZIER_SIZE << 2;
+			float range = time2 - time1;
+			float cx1 = time1 + (handleTimeOffset + (handles[h] + 32768) * handleTimeStep) * range;
+			float cy1 = handleValueOffset + (handles[h + 1] + 32768) * handleValueStep;
+			float cx2 = time1 + (handleTimeOffset + (handles[h + 2] + 32768) * handleTimeStep) * range;
+			float cy2 = handleValueOffset + (handles[h + 3] + 32768) * handleValueStep;
+			float tmpx = (time1 - cx1 * 2 + cx2) * 0.03f, tmpy = (value1 - cy1 * 2 + cy2) * 0.03f;
+			float dddx = ((cx1 - cx2) * 3 - time1 + time2) * 0.006f, dddy = ((cy1 - cy2) * 3 - value1 + value2) * 0.006f;
+			float ddx = tmpx * 2 + dddx, ddy = tmpy * 2 + dddy;
+			float dx = (cx1 - time1) * 0.3f + tmpx + dddx * 0.16666667f, dy = (cy1 - value1) * 0.3f + tmpy + dddy * 0.16666667f;
+			float px = time1, py = value1, x = time1 + dx, y = value1 + dy;
+			for (int k = 0;; k += 2) {
+				if (segments != null) {
+					segments[k] = x;
+					segments[k + 1] = y;
+				} else if (k == 0 ? x > time : x >= time)
+					return py + (time - px) / (x - px) * (y - py);
+				if (k == BEZIER_SIZE - 2) break;
+				px = x;
+				py = y;
+				dx += ddx;
+				dy += ddy;
+				ddx += dddx;
+				ddy += dddy;
+				x += dx;
+				y += dy;
+			}
+			if (segments != null) return 0;
+			return y + (time - x) / (time2 - x) * (value2 - y);
+		}
 	}
 
 	/** The base class for a {@link CurveTimeline} that sets one property. */
@@ -379,7 +922,7 @@ public class Animation {
 
 		/** @param bezierCount The maximum number of Bezier curves. See {@link #shrink(int)}.
 		 * @param propertyId Unique identifier for the property the timeline modifies. */
-		public CurveTimeline1 (int frameCount, int bezierCount, String propertyId) {
+		public CurveTimeline1 (int frameCount, int bezierCount, long propertyId) {
 			super(frameCount, bezierCount, propertyId);
 		}
 
@@ -398,15 +941,14 @@ public class Animation {
 
 		/** Returns the interpolated value for the specified time. */
 		public float getCurveValue (float time) {
-			float[] frames = this.frames;
-			int i = frames.length - 2;
-			for (int ii = 2; ii <= i; ii += 2) {
-				if (frames[ii] > time) {
-					i = ii - 2;
-					break;
-				}
-			}
+			return getCurveValue(time, null, 0);
+		}
 
+		/** Returns the interpolated value for the specified time, using a cached frame index.
+		 * @see Timeline#search(float[], float, int, int[], int) */
+		float getCurveValue (float time, @Null int[] cursors, int cursor) {
+			float[] frames = this.frames;
+			int i = search(frames, time, ENTRIES, cursors, cursor);
 			int curveType = (int)curves[i >> 1];
 			switch (curveType) {
 			case LINEAR:
@@ -427,7 +969,7 @@ public class Animation {
 		/** @param bezierCount The maximum number of Bezier curves. See {@link #shrink(int)}.
 		 * @param propertyId1 Unique identifier for the first property the timeline modifies.
 		 * @param propertyId2 Unique identifier for the second property the timeline modifies. */
-		public CurveTimeline2 (int frameCount, int bezierCount, String propertyId1, String propertyId2) {
+		public CurveTimeline2 (int frameCount, int bezierCount, long propertyId1, long propertyId2) {
 			super(frameCount, bezierCount, propertyId1, propertyId2);
 		}
 
@@ -451,7 +993,7 @@ public class Animation {
 		final int boneIndex;
 
 		public RotateTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.rotate.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.rotate.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -460,8 +1002,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -476,7 +1017,7 @@ public class Animation {
 				return;
 			}
 
-			float r = getCurveValue(time);
+			float r = getCurveValue(time, cursors, cursor);
 			switch (blend) {
 			case setup:
 				bone.rotation = bone.data.rotation + r * alpha;
@@ -497,8 +1038,8 @@ public class Animation {
 
 		public TranslateTimeline (int frameCount, int bezierCount, int boneIndex) {
 			super(frameCount, bezierCount, //
-				Property.x.ordinal() + "|" + boneIndex, //
-				Property.y.ordinal() + "|" + boneIndex);
+				Property.x.id(boneIndex), //
+				Property.y.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -507,8 +1048,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -527,7 +1067,7 @@ public class Animation {
 			}
 
 			float x, y;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -568,7 +1108,7 @@ public class Animation {
 		final int boneIndex;
 
 		public TranslateXTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.x.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.x.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -577,8 +1117,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -594,7 +1133,7 @@ public class Animation {
 				return;
 			}
 
-			float x = getCurveValue(time);
+			float x = getCurveValue(time, cursors, cursor);
 			switch (blend) {
 			case setup:
 				bone.x = bone.data.x + x * alpha;
@@ -614,7 +1153,7 @@ public class Animation {
 		final int boneIndex;
 
 		public TranslateYTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.y.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.y.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -623,8 +1162,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -640,7 +1178,7 @@ public class Animation {
 				return;
 			}
 
-			float y = getCurveValue(time);
+			float y = getCurveValue(time, cursors, cursor);
 			switch (blend) {
 			case setup:
 				bone.y = bone.data.y + y * alpha;
@@ -661,8 +1199,8 @@ public class Animation {
 
 		public ScaleTimeline (int frameCount, int bezierCount, int boneIndex) {
 			super(frameCount, bezierCount, //
-				Property.scaleX.ordinal() + "|" + boneIndex, //
-				Property.scaleY.ordinal() + "|" + boneIndex);
+				Property.scaleX.id(boneIndex), //
+				Property.scaleY.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -671,8 +1209,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -691,7 +1228,7 @@ public class Animation {
 			}
 
 			float x, y;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -771,7 +1308,7 @@ public class Animation {
 		final int boneIndex;
 
 		public ScaleXTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.scaleX.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.scaleX.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -780,8 +1317,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -797,7 +1333,7 @@ public class Animation {
 				return;
 			}
 
-			float x = getCurveValue(time) * bone.data.scaleX;
+			float x = getCurveValue(time, cursors, cursor) * bone.data.scaleX;
 			if (alpha == 1) {
 				if (blend == add)
 					bone.scaleX += x - bone.data.scaleX;
@@ -844,7 +1380,7 @@ public class Animation {
 		final int boneIndex;
 
 		public ScaleYTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.scaleY.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.scaleY.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -853,8 +1389,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -870,7 +1405,7 @@ public class Animation {
 				return;
 			}
 
-			float y = getCurveValue(time) * bone.data.scaleY;
+			float y = getCurveValue(time, cursors, cursor) * bone.data.scaleY;
 			if (alpha == 1) {
 				if (blend == add)
 					bone.scaleY += y - bone.data.scaleY;
@@ -918,8 +1453,8 @@ public class Animation {
 
 		public ShearTimeline (int frameCount, int bezierCount, int boneIndex) {
 			super(frameCount, bezierCount, //
-				Property.shearX.ordinal() + "|" + boneIndex, //
-				Property.shearY.ordinal() + "|" + boneIndex);
+				Property.shearX.id(boneIndex), //
+				Property.shearY.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -928,8 +1463,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -948,7 +1482,7 @@ public class Animation {
 			}
 
 			float x, y;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -989,7 +1523,7 @@ public class Animation {
 		final int boneIndex;
 
 		public ShearXTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.shearX.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.shearX.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -998,8 +1532,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -1015,7 +1548,7 @@ public class Animation {
 				return;
 			}
 
-			float x = getCurveValue(time);
+			float x = getCurveValue(time, cursors, cursor);
 			switch (blend) {
 			case setup:
 				bone.shearX = bone.data.shearX + x * alpha;
@@ -1035,7 +1568,7 @@ public class Animation {
 		final int boneIndex;
 
 		public ShearYTimeline (int frameCount, int bezierCount, int boneIndex) {
-			super(frameCount, bezierCount, Property.shearY.ordinal() + "|" + boneIndex);
+			super(frameCount, bezierCount, Property.shearY.id(boneIndex));
 			this.boneIndex = boneIndex;
 		}
 
@@ -1044,8 +1577,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Bone bone = skeleton.bones.get(boneIndex);
 			if (!bone.active) return;
 
@@ -1061,7 +1593,7 @@ public class Animation {
 				return;
 			}
 
-			float y = getCurveValue(time);
+			float y = getCurveValue(time, cursors, cursor);
 			switch (blend) {
 			case setup:
 				bone.shearY = bone.data.shearY + y * alpha;
@@ -1085,8 +1617,8 @@ public class Animation {
 
 		public RGBATimeline (int frameCount, int bezierCount, int slotIndex) {
 			super(frameCount, bezierCount, //
-				Property.rgb.ordinal() + "|" + slotIndex, //
-				Property.alpha.ordinal() + "|" + slotIndex);
+				Property.rgb.id(slotIndex), //
+				Property.alpha.id(slotIndex));
 			this.slotIndex = slotIndex;
 		}
 
@@ -1111,8 +1643,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
@@ -1132,7 +1663,7 @@ public class Animation {
 			}
 
 			float r, g, b, a;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -1176,7 +1707,7 @@ public class Animation {
 		final int slotIndex;
 
 		public RGBTimeline (int frameCount, int bezierCount, int slotIndex) {
-			super(frameCount, bezierCount, Property.rgb.ordinal() + "|" + slotIndex);
+			super(frameCount, bezierCount, Property.rgb.id(slotIndex));
 			this.slotIndex = slotIndex;
 		}
 
@@ -1200,8 +1731,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
@@ -1224,7 +1754,7 @@ public class Animation {
 			}
 
 			float r, g, b;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i >> 2];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i >> 2];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -1270,7 +1800,7 @@ public class Animation {
 		final int slotIndex;
 
 		public AlphaTimeline (int frameCount, int bezierCount, int slotIndex) {
-			super(frameCount, bezierCount, Property.alpha.ordinal() + "|" + slotIndex);
+			super(frameCount, bezierCount, Property.alpha.id(slotIndex));
 			this.slotIndex = slotIndex;
 		}
 
@@ -1279,8 +1809,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
@@ -1298,7 +1827,7 @@ public class Animation {
 				return;
 			}
 
-			float a = getCurveValue(time);
+			float a = getCurveValue(time, cursors, cursor);
 			if (alpha == 1)
 				color.a = a;
 			else {
@@ -1317,9 +1846,9 @@ public class Animation {
 
 		public RGBA2Timeline (int frameCount, int bezierCount, int slotIndex) {
 			super(frameCount, bezierCount, //
-				Property.rgb.ordinal() + "|" + slotIndex, //
-				Property.alpha.ordinal() + "|" + slotIndex, //
-				Property.rgb2.ordinal() + "|" + slotIndex);
+				Property.rgb.id(slotIndex), //
+				Property.alpha.id(slotIndex), //
+				Property.rgb2.id(slotIndex));
 			this.slotIndex = slotIndex;
 		}
 
@@ -1349,8 +1878,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
@@ -1376,7 +1904,7 @@ public class Animation {
 			}
 
 			float r, g, b, a, r2, g2, b2;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i >> 3];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i >> 3];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -1445,8 +1973,8 @@ public class Animation {
 
 		public RGB2Timeline (int frameCount, int bezierCount, int slotIndex) {
 			super(frameCount, bezierCount, //
-				Property.rgb.ordinal() + "|" + slotIndex, //
-				Property.rgb2.ordinal() + "|" + slotIndex);
+				Property.rgb.id(slotIndex), //
+				Property.rgb2.id(slotIndex));
 			this.slotIndex = slotIndex;
 		}
 
@@ -1475,8 +2003,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
@@ -1505,7 +2032,7 @@ public class Animation {
 			}
 
 			float r, g, b, r2, g2, b2;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -1571,9 +2098,11 @@ public class Animation {
 	static public class AttachmentTimeline extends Timeline implements SlotTimeline {
 		final int slotIndex;
 		final String[] attachmentNames;
+		int version; // Incremented when a frame is set, so attachments found for the previous names are not reused.
+		int index = -1; // Set when read, see SkeletonData indexAttachmentTimelines.
 
 		public AttachmentTimeline (int frameCount, int slotIndex) {
-			super(frameCount, Property.attachment.ordinal() + "|" + slotIndex);
+			super(frameCount, Property.attachment.id(slotIndex));
 			this.slotIndex = slotIndex;
 			attachmentNames = new String[frameCount];
 		}
@@ -1586,7 +2115,9 @@ public class Animation {
 			return slotIndex;
 		}
 
-		/** The attachment name for each frame. May contain null values to clear the attachment. */
+		/** The attachment name for each frame. May contain null values to clear the attachment. If the names are changed other
+		 * than by {@link #setFrame(int, float, String)}, that method must be called so attachments found for the previous names
+		 * are not reused. */
 		public String[] getAttachmentNames () {
 			return attachmentNames;
 		}
@@ -1597,40 +2128,46 @@ public class Animation {
 		public void setFrame (int frame, float time, String attachmentName) {
 			frames[frame] = time;
 			attachmentNames[frame] = attachmentName;
+			version++;
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
 			MixDirection direction) {
+			apply(skeleton, lastTime, time, events, alpha, blend, direction, null, 0);
+		}
 
+		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 
 			if (direction == out) {
-				if (blend == setup) setAttachment(skeleton, slot, slot.data.attachmentName);
+				if (blend == setup) slot.setAttachment(skeleton.getTimelineAttachment(this, -1));
 				return;
 			}
 
 			if (time < this.frames[0]) { // Time is before first frame.
-				if (blend == setup || blend == first) setAttachment(skeleton, slot, slot.data.attachmentName);
+				if (blend == setup || blend == first) slot.setAttachment(skeleton.getTimelineAttachment(this, -1));
 				return;
 			}
 
-			setAttachment(skeleton, slot, attachmentNames[search(this.frames, time)]);
-		}
-
-		private void setAttachment (Skeleton skeleton, Slot slot, String attachmentName) {
-			slot.setAttachment(attachmentName == null ? null : skeleton.getAttachment(slotIndex, attachmentName));
+			slot.setAttachment(skeleton.getTimelineAttachment(this, search(this.frames, time, 1, cursors, cursor)));
 		}
 	}
 
 	/** Changes a slot's {@link Slot#getDeform()} to deform a {@link VertexAttachment}. */
 	static public class DeformTimeline extends CurveTimeline implements SlotTimeline {
+		static private final float[] noOffsets = {};
+
 		final int slotIndex;
 		final VertexAttachment attachment;
-		private final float[][] vertices;
+		private @Null float[][] vertices;
+		@Null float[][] offsets;
+		@Null int[] offsetStarts;
+		int vertexCount;
 
 		public DeformTimeline (int frameCount, int bezierCount, int slotIndex, VertexAttachment attachment) {
-			super(frameCount, bezierCount, Property.deform.ordinal() + "|" + slotIndex + "|" + attachment.getId());
+			super(frameCount, bezierCount, Property.deform.id(slotIndex, attachment.getId()));
 			this.slotIndex = slotIndex;
 			this.attachment = attachment;
 			vertices = new float[frameCount][];
@@ -1651,8 +2188,18 @@ public class Animation {
 			return attachment;
 		}
 
-		/** The vertices for each frame. */
+		/** The vertices for each frame. If {@link #compactVertices()} was used, new arrays are returned each time. */
 		public float[][] getVertices () {
+			if (offsets == null) return vertices;
+			float[] setupVertices = attachment.getBones() == null ? attachment.getVertices() : null;
+			float[][] vertices = new float[offsets.length][];
+			for (int frame = 0, n = vertices.length; frame < n; frame++) {
+				float[] frameVertices = new float[vertexCount], frameOffsets = offsets[frame];
+				if (setupVertices != null) arraycopy(setupVertices, 0, frameVertices, 0, vertexCount);
+				for (int i = 0, v = offsetStarts[frame], nn = frameOffsets.length; i < nn; i++, v++)
+					frameVertices[v] += frameOffsets[i];
+				vertices[frame] = frameVertices;
+			}
 			return vertices;
 		}
 
@@ -1661,14 +2208,85 @@ public class Animation {
 		 * @param time The frame time in seconds.
 		 * @param vertices Vertex positions for an unweighted VertexAttachment, or deform offsets if it has weights. */
 		public void setFrame (int frame, float time, float[] vertices) {
+			if (offsets != null) throw new IllegalStateException("Vertices cannot be set after compactVertices.");
 			frames[frame] = time;
 			this.vertices[frame] = vertices;
 		}
 
+		/** Stores only the range of each frame's vertices that differs from the setup pose, as offsets from the setup vertices
+		 * (or the deform offsets, for a weighted attachment). Frames that don't differ store nothing and identical frames share
+		 * their offsets. This saves memory for meshes where each key moves few vertices, and applying the timeline then only
+		 * computes the changed ranges.
+		 * <p>
+		 * {@link #setFrame(int, float, float[])} cannot be used afterward.
+		 * @return The number of bytes saved, or 0 if the vertices are already compact. */
+		public int compactVertices () {
+			if (offsets != null) return 0;
+			float[][] vertices = this.vertices;
+			float[] setupVertices = attachment.getBones() == null ? attachment.getVertices() : null;
+			int frameCount = vertices.length, vertexCount = vertices[0].length;
+
+			float[][] offsets = new float[frameCount][];
+			int[] offsetStarts = new int[frameCount], hashes = new int[frameCount];
+			int before = 0, after = frameCount << 2;
+			outer:
+			for (int frame = 0; frame < frameCount; frame++) {
+				float[] frameVertices = vertices[frame];
+				boolean counted = frameVertices == setupVertices;
+				for (int i = 0; i < frame && !counted; i++)
+					if (vertices[i] == frameVertices) counted = true;
+				if (!counted) before += 16 + (frameVertices.length << 2);
+
+				// Find the range of nonzero offsets.
+				int start = 0, end = vertexCount;
+				while (start < end && frameVertices[start] == (setupVertices != null ? setupVertices[start] : 0))
+					start++;
+				while (end > start && frameVertices[end - 1] == (setupVertices != null ? setupVertices[end - 1] : 0))
+					end--;
+				float[] frameOffsets;
+				if (start == end) {
+					start = 0;
+					frameOffsets = noOffsets;
+				} else {
+					frameOffsets = new float[end - start];
+					for (int i = start; i < end; i++)
+						frameOffsets[i - start] = setupVertices != null ? frameVertices[i] - setupVertices[i] : frameVertices[i];
+				}
+				offsetStarts[frame] = start;
+
+				// Share the offsets of an identical frame.
+				int hash = start * 31 + Arrays.hashCode(frameOffsets);
+				hashes[frame] = hash;
+				for (int i = 0; i < frame; i++) {
+					if (hashes[i] == hash && offsetStarts[i] == start && Arrays.equals(offsets[i], frameOffsets)) {
+						offsets[frame] = offsets[i];
+						continue outer;
+					}
+				}
+				offsets[frame] = frameOffsets;
+				if (frameOffsets != noOffsets) after += 16 + (frameOffsets.length << 2);
+			}
+
+			this.offsets = offsets;
+			this.offsetStarts = offsetStarts;
+			this.vertexCount = vertexCount;
+			this.vertices = null;
+			return Math.max(0, before - after);
+		}
+
+		int getCurveCount () {
+			return 1;
+		}
+
+		float getCurveEnd (int frame, int value, boolean end) {
+			return end ? 1 : 0;
+		}
+
 		/** @param value1 Ignored (0 is used for a deform timeline).
 		 * @param value2 Ignored (1 is used for a deform timeline). */
 		public void setBezier (int bezier, int frame, int value, float time1, float value1, float cx1, float cy1, float cx2,
 			float cy2, float time2, float value2) {
+			if (handles != null) throw new IllegalStateException("Bezier curves cannot be set after compact.");
 			float[] curves = this.curves;
 			int i = getFrameCount() + bezier * BEZIER_SIZE;
 			if (value == 0) curves[frame] = BEZIER + i;
@@ -1702,6 +2320,7 @@ public class Animation {
 				return 0;
 			}
 			i -= BEZIER;
+			if (handles != null) return getCompactValue(time, i, frames[frame], 0, frames[frame + 1], 1);
 			if (curves[i] > time) {
 				float x = frames[frame];
 				return curves[i + 1] * (time - x) / (curves[i] - x);
@@ -1718,8 +2337,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (!slot.bone.active) return;
 			Attachment slotAttachment = slot.attachment;
@@ -1728,9 +2346,10 @@ public class Animation {
 
 			FloatArray deformArray = slot.getDeform();
 			if (deformArray.size == 0) blend = setup;
+			slot.deformVersion++;
 
 			float[][] vertices = this.vertices;
-			int vertexCount = vertices[0].length;
+			int vertexCount = vertices != null ? vertices[0].length : this.vertexCount;
 
 			float[] frames = this.frames;
 			if (time < frames[0]) { // Time is before first frame.
@@ -1762,6 +2381,19 @@ public class Animation {
 
 			float[] deform = deformArray.setSize(vertexCount);
 
+			if (vertices == null) {
+				float[] setupVertices = ((VertexAttachment)slotAttachment).getBones() == null
+					? ((VertexAttachment)slotAttachment).getVertices() : null;
+				int last = frames.length - 1;
+				if (time >= frames[last]) // Time is after last frame.
+					applyOffsets(deform, vertexCount, setupVertices, last, last, 0, alpha, blend);
+				else {
+					int frame = search(frames, time, 1, cursors, cursor);
+					applyOffsets(deform, vertexCount, setupVertices, frame, frame + 1, getCurvePercent(time, frame), alpha, blend);
+				}
+				return;
+			}
+
 			if (time >= frames[frames.length - 1]) { // Time is after last frame.
 				float[] lastVertices = vertices[frames.length - 1];
 				if (alpha == 1) {
@@ -1822,7 +2454,7 @@ public class Animation {
 				return;
 			}
 
-			int frame = search(frames, time);
+			int frame = search(frames, time, 1, cursors, cursor);
 			float percent = getCurvePercent(time, frame);
 			float[] prevVertices = vertices[frame];
 			float[] nextVertices = vertices[frame + 1];
@@ -1898,11 +2530,63 @@ public class Animation {
 				}
 			}
 		}
+
+		/** Applies the offsets stored by {@link #compactVertices()}, interpolated between two frames.
+		 * @param setupVertices The setup vertex positions for an unweighted attachment, else null. */
+		private void applyOffsets (float[] deform, int vertexCount, @Null float[] setupVertices, int frame1, int frame2,
+			float percent, float alpha, MixBlend blend) {
+			float[] prev = offsets[frame1], next = offsets[frame2];
+			int prevStart = offsetStarts[frame1], prevEnd = prevStart + prev.length;
+			int nextStart = offsetStarts[frame2], nextEnd = nextStart + next.length;
+			int start, end;
+			if (prev.length == 0) {
+				start = nextStart;
+				end = nextEnd;
+			} else if (next.length == 0) {
+				start = prevStart;
+				end = prevEnd;
+			} else {
+				start = Math.min(prevStart, nextStart);
+				end = Math.max(prevEnd, nextEnd);
+			}
+
+			if (blend == add) {
+				// Offsets from the current vertices, with or without alpha.
+				for (int i = start; i < end; i++) {
+					float p = i >= prevStart && i < prevEnd ? prev[i - prevStart] : 0;
+					float n = i >= nextStart && i < nextEnd ? next[i - nextStart] : 0;
+					deform[i] += (p + (n - p) * percent) * alpha;
+				}
+			} else if (alpha == 1 || blend == setup) {
+				// Offsets from the setup vertices, with or without alpha.
+				if (setupVertices != null)
+					arraycopy(setupVertices, 0, deform, 0, vertexCount);
+				else
+					Arrays.fill(deform, 0, vertexCount, 0);
+				for (int i = start; i < end; i++) {
+					float p = i >= prevStart && i < prevEnd ? prev[i - prevStart] : 0;
+					float n = i >= nextStart && i < nextEnd ? next[i - nextStart] : 0;
+					deform[i] += (p + (n - p) * percent) * alpha;
+				}
+			} else {
+				// Vertex positions or deform offsets mixed with the current vertices, with alpha.
+				for (int i = 0; i < vertexCount; i++) {
+					float offset = 0;
+					if (i >= start && i < end) {
+						float p = i >= prevStart && i < prevEnd ? prev[i - prevStart] : 0;
+						float n = i >= nextStart && i < nextEnd ? next[i - nextStart] : 0;
+						offset = p + (n - p) * percent;
+					}
+					if (setupVertices != null) offset += setupVertices[i];
+					deform[i] += (offset - deform[i]) * alpha;
+				}
+			}
+		}
 	}
 
 	/** Fires an {@link Event} when specific animation times are reached. */
 	static public class EventTimeline extends Timeline {
-		static private final String[] propertyIds = {Integer.toString(Property.event.ordinal())};
+		static private final long[] propertyIds = {Property.event.id(0)};
 
 		private final Event[] events;
 
@@ -1927,17 +2611,21 @@ public class Animation {
 			events[frame] = event;
 		}
 
-		/** Fires events for frames > <code>lastTime</code> and <= <code>time</code>. */
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> firedEvents, float alpha,
 			MixBlend blend, MixDirection direction) {
+			apply(skeleton, lastTime, time, firedEvents, alpha, blend, direction, null, 0);
+		}
 
+		/** Fires events for frames > <code>lastTime</code> and <= <code>time</code>. */
+		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> firedEvents, float alpha,
+			MixBlend blend, MixDirection direction, @Null int[] cursors, int cursor) {
 			if (firedEvents == null) return;
 
 			float[] frames = this.frames;
 			int frameCount = frames.length;
 
 			if (lastTime > time) { // Fire events after last time for looped animations.
-				apply(skeleton, lastTime, Integer.MAX_VALUE, firedEvents, alpha, blend, direction);
+				apply(skeleton, lastTime, Integer.MAX_VALUE, firedEvents, alpha, blend, direction, cursors, cursor);
 				lastTime = -1f;
 			} else if (lastTime >= frames[frameCount - 1]) // Last time is after last frame.
 				return;
@@ -1947,7 +2635,7 @@ public class Animation {
 			if (lastTime < frames[0])
 				i = 0;
 			else {
-				i = search(frames, lastTime) + 1;
+				i = search(frames, lastTime, 1, cursors, cursor) + 1;
 				float frameTime = frames[i];
 				while (i > 0) { // Fire multiple events with the same frame.
 					if (frames[i - 1] != frameTime) break;
@@ -1961,7 +2649,7 @@ public class Animation {
 
 	/** Changes a skeleton's {@link Skeleton#getDrawOrder()}. */
 	static public class DrawOrderTimeline extends Timeline {
-		static private final String[] propertyIds = {Integer.toString(Property.drawOrder.ordinal())};
+		static private final long[] propertyIds = {Property.drawOrder.id(0)};
 
 		private final int[][] drawOrders;
 
@@ -1991,7 +2679,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
 			MixDirection direction) {
+			apply(skeleton, lastTime, time, events, alpha, blend, direction, null, 0);
+		}
 
+		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			if (direction == out) {
 				if (blend == setup) arraycopy(skeleton.slots.items, 0, skeleton.drawOrder.items, 0, skeleton.slots.size);
 				return;
@@ -2003,7 +2695,7 @@ public class Animation {
 				return;
 			}
 
-			int[] drawOrderToSetupIndex = drawOrders[search(frames, time)];
+			int[] drawOrderToSetupIndex = drawOrders[search(frames, time, 1, cursors, cursor)];
 			if (drawOrderToSetupIndex == null)
 				arraycopy(skeleton.slots.items, 0, skeleton.drawOrder.items, 0, skeleton.slots.size);
 			else {
@@ -2024,7 +2716,7 @@ public class Animation {
 		final int ikConstraintIndex;
 
 		public IkConstraintTimeline (int frameCount, int bezierCount, int ikConstraintIndex) {
-			super(frameCount, bezierCount, Property.ikConstraint.ordinal() + "|" + ikConstraintIndex);
+			super(frameCount, bezierCount, Property.ikConstraint.id(ikConstraintIndex));
 			this.ikConstraintIndex = ikConstraintIndex;
 		}
 
@@ -2032,6 +2724,10 @@ public class Animation {
 			return ENTRIES;
 		}
 
+		int getCurveCount () {
+			return 2;
+		}
+
 		/** The index of the IK constraint slot in {@link Skeleton#getIkConstraints()} that will be changed when this timeline is
 		 * applied. */
 		public int getIkConstraintIndex () {
@@ -2054,8 +2750,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			IkConstraint constraint = skeleton.ikConstraints.get(ikConstraintIndex);
 			if (!constraint.active) return;
 
@@ -2080,7 +2775,7 @@ public class Animation {
 			}
 
 			float mix, softness;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -2133,7 +2828,7 @@ public class Animation {
 		final int transformConstraintIndex;
 
 		public TransformConstraintTimeline (int frameCount, int bezierCount, int transformConstraintIndex) {
-			super(frameCount, bezierCount, Property.transformConstraint.ordinal() + "|" + transformConstraintIndex);
+			super(frameCount, bezierCount, Property.transformConstraint.id(transformConstraintIndex));
 			this.transformConstraintIndex = transformConstraintIndex;
 		}
 
@@ -2163,8 +2858,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			TransformConstraint constraint = skeleton.transformConstraints.get(transformConstraintIndex);
 			if (!constraint.active) return;
 
@@ -2192,7 +2886,7 @@ public class Animation {
 			}
 
 			float rotate, x, y, scaleX, scaleY, shearY;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i / ENTRIES];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i / ENTRIES];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
@@ -2251,7 +2945,7 @@ public class Animation {
 		final int pathConstraintIndex;
 
 		public PathConstraintPositionTimeline (int frameCount, int bezierCount, int pathConstraintIndex) {
-			super(frameCount, bezierCount, Property.pathConstraintPosition.ordinal() + "|" + pathConstraintIndex);
+			super(frameCount, bezierCount, Property.pathConstraintPosition.id(pathConstraintIndex));
 			this.pathConstraintIndex = pathConstraintIndex;
 		}
 
@@ -2262,8 +2956,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			if (!constraint.active) return;
 
@@ -2278,7 +2971,7 @@ public class Animation {
 				return;
 			}
 
-			float position = getCurveValue(time);
+			float position = getCurveValue(time, cursors, cursor);
 			if (blend == setup)
 				constraint.position = constraint.data.position + (position - constraint.data.position) * alpha;
 			else
@@ -2291,7 +2984,7 @@ public class Animation {
 		final int pathConstraintIndex;
 
 		public PathConstraintSpacingTimeline (int frameCount, int bezierCount, int pathConstraintIndex) {
-			super(frameCount, bezierCount, Property.pathConstraintSpacing.ordinal() + "|" + pathConstraintIndex);
+			super(frameCount, bezierCount, Property.pathConstraintSpacing.id(pathConstraintIndex));
 			this.pathConstraintIndex = pathConstraintIndex;
 		}
 
@@ -2302,8 +2995,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			if (!constraint.active) return;
 
@@ -2318,7 +3010,7 @@ public class Animation {
 				return;
 			}
 
-			float spacing = getCurveValue(time);
+			float spacing = getCurveValue(time, cursors, cursor);
 			if (blend == setup)
 				constraint.spacing = constraint.data.spacing + (spacing - constraint.data.spacing) * alpha;
 			else
@@ -2335,7 +3027,7 @@ public class Animation {
 		final int pathConstraintIndex;
 
 		public PathConstraintMixTimeline (int frameCount, int bezierCount, int pathConstraintIndex) {
-			super(frameCount, bezierCount, Property.pathConstraintMix.ordinal() + "|" + pathConstraintIndex);
+			super(frameCount, bezierCount, Property.pathConstraintMix.id(pathConstraintIndex));
 			this.pathConstraintIndex = pathConstraintIndex;
 		}
 
@@ -2361,8 +3053,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, @Null Array<Event> events, float alpha, MixBlend blend,
-			MixDirection direction) {
-
+			MixDirection direction, @Null int[] cursors, int cursor) {
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			if (!constraint.active) return;
 
@@ -2384,7 +3075,7 @@ public class Animation {
 			}
 
 			float rotate, x, y;
-			int i = search(frames, time, ENTRIES), curveType = (int)curves[i >> 2];
+			int i = search(frames, time, ENTRIES, cursors, cursor), curveType = (int)curves[i >> 2];
 			switch (curveType) {
 			case LINEAR:
 				float before = frames[i];
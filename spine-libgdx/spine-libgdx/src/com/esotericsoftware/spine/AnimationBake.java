@@ -0,0 +1,421 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.esotericsoftware.spine.Animation.AlphaTimeline;
+import com.esotericsoftware.spine.Animation.BoneTimeline;
+import com.esotericsoftware.spine.Animation.CurveTimeline;
+import com.esotericsoftware.spine.Animation.MixBlend;
+import com.esotericsoftware.spine.Animation.MixDirection;
+import com.esotericsoftware.spine.Animation.RGB2Timeline;
+import com.esotericsoftware.spine.Animation.RGBA2Timeline;
+import com.esotericsoftware.spine.Animation.RGBATimeline;
+import com.esotericsoftware.spine.Animation.RGBTimeline;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.ScaleTimeline;
+import com.esotericsoftware.spine.Animation.ScaleXTimeline;
+import com.esotericsoftware.spine.Animation.ScaleYTimeline;
+import com.esotericsoftware.spine.Animation.ShearTimeline;
+import com.esotericsoftware.spine.Animation.ShearXTimeline;
+import com.esotericsoftware.spine.Animation.ShearYTimeline;
+import com.esotericsoftware.spine.Animation.SlotTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TranslateTimeline;
+import com.esotericsoftware.spine.Animation.TranslateXTimeline;
+import com.esotericsoftware.spine.Animation.TranslateYTimeline;
+
+/** Stores an animation's bone and slot color timelines sampled at a fixed rate, so applying them is a couple of array reads and a
+ * linear interpolation rather than a frame search and curve evaluation per timeline. The other timelines (attachments, deform,
+ * events, draw order, and constraints) are still applied normally.
+ * <p>
+ * A bake is used by {@link Animation#apply(Skeleton, float, float, boolean, Array, float, MixBlend, MixDirection)} and
+ * {@link AnimationState} when applying with {@link MixDirection#in}. Values between samples are interpolated linearly, so the
+ * sample rate should be high enough for the animation's curves. A stepped key takes effect at the first sample at or after the
+ * key.
+ * <p>
+ * See {@link Animation#bake(SkeletonData, float, int)}. */
+public class AnimationBake {
+	static private final int X = 0, Y = 1, ROTATE = 2, SCALE_X = 3, SCALE_Y = 4, SHEAR_X = 5, SHEAR_Y = 6;
+	static private final int R = 0, G = 1, B = 2, A = 3, R2 = 4, G2 = 5, B2 = 6;
+
+	final float sampleRate, duration;
+	final int sampleCount, channelCount;
+	final int[] boneChannels, slotChannels;
+	final float[] firstTimes, samples;
+	final int[] steps;
+	final boolean[] baked;
+
+	/** Samples the bone and slot color timelines of the animation.
+	 * @param sampleRate The number of samples per second. */
+	public AnimationBake (Animation animation, SkeletonData skeletonData, float sampleRate) {
+		if (animation == null) throw new IllegalArgumentException("animation cannot be null.");
+		if (skeletonData == null) throw new IllegalArgumentException("skeletonData cannot be null.");
+		if (sampleRate <= 0) throw new IllegalArgumentException("sampleRate must be > 0: " + sampleRate);
+		this.sampleRate = sampleRate;
+		duration = animation.duration;
+		sampleCount = sampleCount(animation, sampleRate);
+
+		// Each channel is one value of a bone or slot: index << 3 | property.
+		Array<Timeline> timelines = new Array();
+		IntArray boneChannels = new IntArray(), slotChannels = new IntArray(), channelStarts = new IntArray();
+		FloatArray boneFirstTimes = new FloatArray(), slotFirstTimes = new FloatArray();
+		Object[] items = animation.timelines.items;
+		int timelineCount = animation.timelines.size;
+		baked = new boolean[timelineCount];
+		for (int i = 0; i < timelineCount; i++) {
+			Timeline timeline = (Timeline)items[i];
+			int count = channels(timeline);
+			if (count == 0) continue;
+			if (timeline instanceof BoneTimeline) {
+				channelStarts.add(boneChannels.size);
+				int bone = ((BoneTimeline)timeline).getBoneIndex() << 3;
+				if (timeline instanceof RotateTimeline)
+					boneChannels.add(bone | ROTATE);
+				else if (timeline instanceof TranslateTimeline)
+					boneChannels.add(bone | X, bone | Y);
+				else if (timeline instanceof TranslateXTimeline)
+					boneChannels.add(bone | X);
+				else if (timeline instanceof TranslateYTimeline)
+					boneChannels.add(bone | Y);
+				else if (timeline instanceof ScaleTimeline)
+					boneChannels.add(bone | SCALE_X, bone | SCALE_Y);
+				else if (timeline instanceof ScaleXTimeline)
+					boneChannels.add(bone | SCALE_X);
+				else if (timeline instanceof ScaleYTimeline)
+					boneChannels.add(bone | SCALE_Y);
+				else if (timeline instanceof ShearTimeline)
+					boneChannels.add(bone | SHEAR_X, bone | SHEAR_Y);
+				else if (timeline instanceof ShearXTimeline)
+					boneChannels.add(bone | SHEAR_X);
+				else
+					boneChannels.add(bone | SHEAR_Y);
+				for (int ii = 0; ii < count; ii++)
+					boneFirstTimes.add(timeline.frames[0]);
+			} else {
+				channelStarts.add(-1 - slotChannels.size);
+				int slot = ((SlotTimeline)timeline).getSlotIndex() << 3;
+				if (timeline instanceof AlphaTimeline)
+					slotChannels.add(slot | A);
+				else {
+					slotChannels.add(slot | R, slot | G, slot | B);
+					if (timeline instanceof RGBATimeline || timeline instanceof RGBA2Timeline) slotChannels.add(slot | A);
+					if (timeline instanceof RGBA2Timeline || timeline instanceof RGB2Timeline)
+						slotChannels.add(slot | R2, slot | G2, slot | B2);
+				}
+				for (int ii = 0; ii < count; ii++)
+					slotFirstTimes.add(timeline.frames[0]);
+			}
+			baked[i] = true;
+			timelines.add(timeline);
+		}
+		// Bone channels are stored before slot channels.
+		this.boneChannels = boneChannels.toArray();
+		this.slotChannels = slotChannels.toArray();
+		channelCount = boneChannels.size + slotChannels.size;
+		boneFirstTimes.addAll(slotFirstTimes);
+		firstTimes = boneFirstTimes.toArray();
+
+		samples = new float[sampleCount * channelCount];
+		sample(timelines, skeletonData);
+
+		// Mark the sample intervals containing a stepped key or the first key (the value jumps from the setup pose), which must not
+		// be interpolated.
+		steps = new int[(sampleCount * channelCount + 31) >> 5];
+		for (int i = 0, n = timelines.size; i < n; i++) {
+			CurveTimeline timeline = (CurveTimeline)timelines.get(i);
+			int start = channelStarts.get(i), count = channels(timeline);
+			if (start < 0) start = this.boneChannels.length - 1 - start;
+			float[] frames = timeline.frames, curves = timeline.curves;
+			for (int frame = 0, frameCount = timeline.getFrameCount(), entries = timeline.getFrameEntries(); frame < frameCount;
+				frame++) {
+				if (frame > 0 && curves[frame - 1] != CurveTimeline.STEPPED) continue;
+				int sample = (int)Math.ceil(frames[frame * entries] * sampleRate) - 1;
+				if (sample < 0 || sample >= sampleCount - 1) continue;
+				for (int bit = sample * channelCount + start, end = bit + count; bit < end; bit++)
+					steps[bit >> 5] |= 1 << (bit & 31);
+			}
+		}
+	}
+
+	private void sample (Array<Timeline> timelines, SkeletonData skeletonData) {
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Object[] bones = skeleton.bones.items, slots = skeleton.slots.items;
+		for (int i = 0, n = skeleton.bones.size; i < n; i++)
+			((Bone)bones[i]).active = true; // Timelines don't apply to inactive bones.
+
+		int[] boneChannels = this.boneChannels, slotChannels = this.slotChannels;
+		float[] samples = this.samples;
+		Object[] items = timelines.items;
+		for (int s = 0, offset = 0; s < sampleCount; s++) {
+			float time = sampleTime(s);
+			skeleton.setToSetupPose();
+			for (int i = 0, n = timelines.size; i < n; i++)
+				((Timeline)items[i]).apply(skeleton, time, time, null, 1, MixBlend.setup, MixDirection.in);
+			for (int i = 0, n = boneChannels.length; i < n; i++, offset++) {
+				Bone bone = (Bone)bones[boneChannels[i] >> 3];
+				switch (boneChannels[i] & 7) {
+				case X:
+					samples[offset] = bone.x;
+					break;
+				case Y:
+					samples[offset] = bone.y;
+					break;
+				case ROTATE:
+					samples[offset] = bone.rotation;
+					break;
+				case SCALE_X:
+					samples[offset] = bone.scaleX;
+					break;
+				case SCALE_Y:
+					samples[offset] = bone.scaleY;
+					break;
+				case SHEAR_X:
+					samples[offset] = bone.shearX;
+					break;
+				default:
+					samples[offset] = bone.shearY;
+				}
+			}
+			for (int i = 0, n = slotChannels.length; i < n; i++, offset++) {
+				Slot slot = (Slot)slots[slotChannels[i] >> 3];
+				Color light = slot.color, dark = slot.darkColor;
+				switch (slotChannels[i] & 7) {
+				case R:
+					samples[offset] = light.r;
+					break;
+				case G:
+					samples[offset] = light.g;
+					break;
+				case B:
+					samples[offset] = light.b;
+					break;
+				case A:
+					samples[offset] = light.a;
+					break;
+				case R2:
+					samples[offset] = dark.r;
+					break;
+				case G2:
+					samples[offset] = dark.g;
+					break;
+				default:
+					samples[offset] = dark.b;
+				}
+			}
+		}
+	}
+
+	private float sampleTime (int sample) {
+		return sample == sampleCount - 1 ? duration : sample / sampleRate;
+	}
+
+	/** Applies the sampled bone and slot color values to the skeleton. This gives the same result as applying the baked timelines
+	 * with {@link MixDirection#in}, except values between samples are interpolated linearly.
+	 * @param time The animation time, which is clamped to the animation duration. */
+	public void apply (Skeleton skeleton, float time, float alpha, MixBlend blend) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+
+		// Find the two samples around the time.
+		int channelCount = this.channelCount, sample;
+		float percent;
+		if (time >= duration) {
+			sample = sampleCount - 1;
+			percent = 0;
+		} else if (time <= 0) {
+			sample = 0;
+			percent = 0;
+		} else {
+			sample = Math.min((int)(time * sampleRate), sampleCount - 2);
+			float before = sample / sampleRate;
+			percent = (time - before) / (sampleTime(sample + 1) - before);
+		}
+		int current = sample * channelCount, next = sample < sampleCount - 1 ? current + channelCount : current;
+		float[] samples = this.samples, firstTimes = this.firstTimes;
+		int[] steps = this.steps;
+
+		// Before a timeline's first frame, replace and add keep the current value.
+		boolean keep = blend == MixBlend.replace || blend == MixBlend.add;
+
+		int[] boneChannels = this.boneChannels;
+		Object[] bones = skeleton.bones.items;
+		for (int i = 0, n = boneChannels.length; i < n; i++, current++, next++) {
+			if (keep && time < firstTimes[i]) continue;
+			int channel = boneChannels[i];
+			Bone bone = (Bone)bones[channel >> 3];
+			if (!bone.active) continue;
+			float value = samples[current];
+			if ((steps[current >> 5] & 1 << (current & 31)) == 0) value += (samples[next] - value) * percent;
+			BoneData data = bone.data;
+			switch (channel & 7) {
+			case X:
+				bone.x = mix(bone.x, data.x, value, alpha, blend);
+				break;
+			case Y:
+				bone.y = mix(bone.y, data.y, value, alpha, blend);
+				break;
+			case ROTATE:
+				bone.rotation = mix(bone.rotation, data.rotation, value, alpha, blend);
+				break;
+			case SCALE_X:
+				bone.scaleX = mixScale(bone.scaleX, data.scaleX, value, alpha, blend);
+				break;
+			case SCALE_Y:
+				bone.scaleY = mixScale(bone.scaleY, data.scaleY, value, alpha, blend);
+				break;
+			case SHEAR_X:
+				bone.shearX = mix(bone.shearX, data.shearX, value, alpha, blend);
+				break;
+			default:
+				bone.shearY = mix(bone.shearY, data.shearY, value, alpha, blend);
+			}
+		}
+
+		int[] slotChannels = this.slotChannels;
+		Object[] slots = skeleton.slots.items;
+		for (int i = 0, n = slotChannels.length, c = boneChannels.length; i < n; i++, c++, current++, next++) {
+			if (keep && time < firstTimes[c]) continue;
+			int channel = slotChannels[i];
+			Slot slot = (Slot)slots[channel >> 3];
+			if (!slot.bone.active) continue;
+			float value = samples[current];
+			if ((steps[current >> 5] & 1 << (current & 31)) == 0) value += (samples[next] - value) * percent;
+			Color light = slot.color, dark = slot.darkColor;
+			SlotData data = slot.data;
+			switch (channel & 7) {
+			case R:
+				light.r = mixColor(light.r, data.color.r, value, alpha, blend);
+				break;
+			case G:
+				light.g = mixColor(light.g, data.color.g, value, alpha, blend);
+				break;
+			case B:
+				light.b = mixColor(light.b, data.color.b, value, alpha, blend);
+				break;
+			case A:
+				light.a = mixColor(light.a, data.color.a, value, alpha, blend);
+				break;
+			case R2:
+				dark.r = mixColor(dark.r, data.darkColor.r, value, alpha, blend);
+				break;
+			case G2:
+				dark.g = mixColor(dark.g, data.darkColor.g, value, alpha, blend);
+				break;
+			default:
+				dark.b = mixColor(dark.b, data.darkColor.b, value, alpha, blend);
+			}
+		}
+	}
+
+	/** The number of samples per second. */
+	public float getSampleRate () {
+		return sampleRate;
+	}
+
+	/** The number of bone and slot values stored per sample. */
+	public int getChannelCount () {
+		return channelCount;
+	}
+
+	/** Returns true if the timeline at the specified index in {@link Animation#getTimelines()} was baked. */
+	public boolean isBaked (int timelineIndex) {
+		return baked[timelineIndex];
+	}
+
+	/** The approximate number of bytes used by this bake. */
+	public long getMemory () {
+		return memory(sampleCount, channelCount, baked.length);
+	}
+
+	static private float mix (float current, float setup, float value, float alpha, MixBlend blend) {
+		if (alpha == 1) return blend == MixBlend.add ? current + value - setup : value;
+		switch (blend) {
+		case setup:
+			return setup + (value - setup) * alpha;
+		case add:
+			return current + (value - setup) * alpha;
+		}
+		return current + (value - current) * alpha;
+	}
+
+	/** Color timelines have no additive blending. */
+	static private float mixColor (float current, float setup, float value, float alpha, MixBlend blend) {
+		if (alpha == 1) return value;
+		if (blend == MixBlend.setup) return setup + (value - setup) * alpha;
+		return current + (value - current) * alpha;
+	}
+
+	/** Mixing in uses the sign of the key, see {@link ScaleTimeline}. */
+	static private float mixScale (float current, float setup, float value, float alpha, MixBlend blend) {
+		if (alpha == 1) return blend == MixBlend.add ? current + value - setup : value;
+		float bx;
+		switch (blend) {
+		case setup:
+			bx = Math.abs(setup) * Math.signum(value);
+			return bx + (value - bx) * alpha;
+		case add:
+			return current + (value - setup) * alpha;
+		}
+		bx = Math.abs(current) * Math.signum(value);
+		return bx + (value - bx) * alpha;
+	}
+
+	static int sampleCount (Animation animation, float sampleRate) {
+		return (int)Math.ceil(animation.duration * sampleRate) + 1;
+	}
+
+	static private int channels (Timeline timeline) {
+		if (timeline instanceof TranslateTimeline || timeline instanceof ScaleTimeline || timeline instanceof ShearTimeline) return 2;
+		if (timeline instanceof BoneTimeline) return 1;
+		if (timeline instanceof RGBATimeline) return 4;
+		if (timeline instanceof RGBTimeline) return 3;
+		if (timeline instanceof AlphaTimeline) return 1;
+		if (timeline instanceof RGBA2Timeline) return 7;
+		if (timeline instanceof RGB2Timeline) return 6;
+		return 0;
+	}
+
+	static int channelCount (Animation animation) {
+		int count = 0;
+		Object[] items = animation.timelines.items;
+		for (int i = 0, n = animation.timelines.size; i < n; i++)
+			count += channels((Timeline)items[i]);
+		return count;
+	}
+
+	static long memory (int sampleCount, int channelCount, int timelineCount) {
+		long values = (long)sampleCount * channelCount;
+		return (values + channelCount * 2 + ((values + 31) >> 5)) * 4 + timelineCount;
+	}
+}
@@ -29,11 +29,12 @@
 
 package com.esotericsoftware.spine;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Null;
-import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.badlogic.gdx.utils.SnapshotArray;
@@ -45,10 +46,16 @@ import com.esotericsoftware.spine.Animation.MixBlend;
 import com.esotericsoftware.spine.Animation.MixDirection;
 import com.esotericsoftware.spine.Animation.RotateTimeline;
 import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TimelineGroups;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.utils.LongSet;
 
 /** Applies animations over time, queues animations for later playback, mixes (crossfading) between animations, and applies
  * multiple animations on top of each other (layering).
  * <p>
+ * Track entries are pooled and the arrays and sets used for mixing only grow, so once they have grown large enough updating and
+ * applying, including setting animations and delivering listener notifications, does not allocate.
+ * <p>
  * See <a href='http://esotericsoftware.com/spine-applying-animations/'>Applying Animations</a> in the Spine Runtimes Guide. */
 public class AnimationState {
 	static final Animation emptyAnimation = new Animation("<empty>", new Array(0), 0);
@@ -91,7 +98,7 @@ public class AnimationState {
 	private final Array<Event> events = new Array();
 	final SnapshotArray<AnimationStateListener> listeners = new SnapshotArray();
 	private final EventQueue queue = new EventQueue();
-	private final ObjectSet<String> propertyIds = new ObjectSet();
+	private final LongSet propertyIds = new LongSet();
 	boolean animationsChanged;
 	private float timeScale = 1;
 	private int unkeyedState;
@@ -231,13 +238,27 @@ public class AnimationState {
 			}
 			int timelineCount = current.animation.timelines.size;
 			Object[] timelines = current.animation.timelines.items;
+			int[] timelineCursors = timelineCursors(current, timelineCount);
 			if ((i == 0 && mix == 1) || blend == MixBlend.add) {
-				for (int ii = 0; ii < timelineCount; ii++) {
-					Object timeline = timelines[ii];
-					if (timeline instanceof AttachmentTimeline)
-						applyAttachmentTimeline((AttachmentTimeline)timeline, skeleton, applyTime, blend, true);
-					else
-						((Timeline)timeline).apply(skeleton, animationLast, applyTime, applyEvents, mix, blend, MixDirection.in);
+				AnimationBake bake = current.animation.bake;
+				boolean[] baked = null;
+				if (bake != null) {
+					bake.apply(skeleton, applyTime, mix, blend);
+					baked = bake.baked;
+				}
+				TimelineGroups groups = current.animation.getTimelineGroups();
+				int[] indices = groups.indices, starts = groups.starts;
+				for (int g = 0, gn = groups.types.length; g < gn; g++) {
+					if (groups.types[g] != TimelineGroups.ATTACHMENT) {
+						groups.apply(g, timelines, baked, skeleton, animationLast, applyTime, applyEvents, mix, blend,
+							MixDirection.in, timelineCursors);
+						continue;
+					}
+					for (int gi = starts[g], gend = starts[g + 1]; gi < gend; gi++) {
+						int ii = indices[gi];
+						applyAttachmentTimeline((AttachmentTimeline)timelines[ii], skeleton, applyTime, blend, true, timelineCursors,
+							ii);
+					}
 				}
 			} else {
 				int[] timelineMode = current.timelineMode.items;
@@ -251,11 +272,13 @@ public class AnimationState {
 					MixBlend timelineBlend = timelineMode[ii] == SUBSEQUENT ? blend : MixBlend.setup;
 					if (timeline instanceof RotateTimeline) {
 						applyRotateTimeline((RotateTimeline)timeline, skeleton, applyTime, mix, timelineBlend, timelinesRotation,
-							ii << 1, firstFrame);
+							ii << 1, firstFrame, timelineCursors, ii);
 					} else if (timeline instanceof AttachmentTimeline)
-						applyAttachmentTimeline((AttachmentTimeline)timeline, skeleton, applyTime, blend, true);
-					else
-						timeline.apply(skeleton, animationLast, applyTime, applyEvents, mix, timelineBlend, MixDirection.in);
+						applyAttachmentTimeline((AttachmentTimeline)timeline, skeleton, applyTime, blend, true, timelineCursors, ii);
+					else {
+						timeline.apply(skeleton, animationLast, applyTime, applyEvents, mix, timelineBlend, MixDirection.in,
+							timelineCursors, ii);
+					}
 				}
 			}
 			queueEvents(current, animationTime);
@@ -308,9 +331,13 @@ public class AnimationState {
 			if (mix < from.eventThreshold) events = this.events;
 		}
 
+		int[] timelineCursors = timelineCursors(from, timelineCount);
 		if (blend == MixBlend.add) {
-			for (int i = 0; i < timelineCount; i++)
-				((Timeline)timelines[i]).apply(skeleton, animationLast, applyTime, events, alphaMix, blend, MixDirection.out);
+			TimelineGroups groups = from.animation.getTimelineGroups();
+			for (int g = 0, gn = groups.types.length; g < gn; g++) {
+				groups.apply(g, timelines, null, skeleton, animationLast, applyTime, events, alphaMix, blend, MixDirection.out,
+					timelineCursors);
+			}
 		} else {
 			int[] timelineMode = from.timelineMode.items;
 			Object[] timelineHoldMix = from.timelineHoldMix.items;
@@ -352,13 +379,14 @@ public class AnimationState {
 				from.totalAlpha += alpha;
 				if (timeline instanceof RotateTimeline) {
 					applyRotateTimeline((RotateTimeline)timeline, skeleton, applyTime, alpha, timelineBlend, timelinesRotation, i << 1,
-						firstFrame);
-				} else if (timeline instanceof AttachmentTimeline)
-					applyAttachmentTimeline((AttachmentTimeline)timeline, skeleton, applyTime, timelineBlend, attachments);
-				else {
+						firstFrame, timelineCursors, i);
+				} else if (timeline instanceof AttachmentTimeline) {
+					applyAttachmentTimeline((AttachmentTimeline)timeline, skeleton, applyTime, timelineBlend, attachments,
+						timelineCursors, i);
+				} else {
 					if (drawOrder && timeline instanceof DrawOrderTimeline && timelineBlend == MixBlend.setup)
 						direction = MixDirection.in;
-					timeline.apply(skeleton, animationLast, applyTime, events, alpha, timelineBlend, direction);
+					timeline.apply(skeleton, animationLast, applyTime, events, alpha, timelineBlend, direction, timelineCursors, i);
 				}
 			}
 		}
@@ -376,35 +404,37 @@ public class AnimationState {
 	 *           is not the last timeline to set the slot's attachment. In that case the timeline is applied only so subsequent
 	 *           timelines see any deform. */
 	private void applyAttachmentTimeline (AttachmentTimeline timeline, Skeleton skeleton, float time, MixBlend blend,
-		boolean attachments) {
+		boolean attachments, int[] timelineCursors, int cursor) {
 
 		Slot slot = skeleton.slots.get(timeline.slotIndex);
 		if (!slot.bone.active) return;
 
 		if (time < timeline.frames[0]) { // Time is before first frame.
 			if (blend == MixBlend.setup || blend == MixBlend.first)
-				setAttachment(skeleton, slot, slot.data.attachmentName, attachments);
-		} else
-			setAttachment(skeleton, slot, timeline.attachmentNames[Timeline.search(timeline.frames, time)], attachments);
+				setAttachment(slot, skeleton.getTimelineAttachment(timeline, -1), attachments);
+		} else {
+			int frame = Timeline.search(timeline.frames, time, 1, timelineCursors, cursor);
+			setAttachment(slot, skeleton.getTimelineAttachment(timeline, frame), attachments);
+		}
 
 		// If an attachment wasn't set (ie before the first frame or attachments is false), set the setup attachment later.
 		if (slot.attachmentState <= unkeyedState) slot.attachmentState = unkeyedState + SETUP;
 	}
 
-	private void setAttachment (Skeleton skeleton, Slot slot, String attachmentName, boolean attachments) {
-		slot.setAttachment(attachmentName == null ? null : skeleton.getAttachment(slot.data.index, attachmentName));
+	private void setAttachment (Slot slot, @Null Attachment attachment, boolean attachments) {
+		slot.setAttachment(attachment);
 		if (attachments) slot.attachmentState = unkeyedState + CURRENT;
 	}
 
 	/** Applies the rotate timeline, mixing with the current pose while keeping the same rotation direction chosen as the shortest
 	 * the first time the mixing was applied. */
 	private void applyRotateTimeline (RotateTimeline timeline, Skeleton skeleton, float time, float alpha, MixBlend blend,
-		float[] timelinesRotation, int i, boolean firstFrame) {
+		float[] timelinesRotation, int i, boolean firstFrame, int[] timelineCursors, int cursor) {
 
 		if (firstFrame) timelinesRotation[i] = 0;
 
 		if (alpha == 1) {
-			timeline.apply(skeleton, 0, time, null, 1, blend, MixDirection.in);
+			timeline.apply(skeleton, 0, time, null, 1, blend, MixDirection.in, timelineCursors, cursor);
 			return;
 		}
 
@@ -425,7 +455,7 @@ public class AnimationState {
 			}
 		} else {
 			r1 = blend == MixBlend.setup ? bone.data.rotation : bone.rotation;
-			r2 = bone.data.rotation + timeline.getCurveValue(time);
+			r2 = bone.data.rotation + timeline.getCurveValue(time, timelineCursors, cursor);
 		}
 
 		// Mix between rotations using the direction of the shortest route on the first frame.
@@ -457,6 +487,13 @@ public class AnimationState {
 		bone.rotation = r1 + total * alpha;
 	}
 
+	/** Returns the entry's cached frame index for each timeline, see {@link Timeline#search(float[], float, int, int[], int)}. */
+	private int[] timelineCursors (TrackEntry entry, int timelineCount) {
+		IntArray timelineCursors = entry.timelineCursors;
+		if (timelineCursors.size != timelineCount) Arrays.fill(timelineCursors.setSize(timelineCount), 0);
+		return timelineCursors.items;
+	}
+
 	private void queueEvents (TrackEntry entry, float animationTime) {
 		float animationStart = entry.animationStart, animationEnd = entry.animationEnd;
 		float duration = animationEnd - animationStart;
@@ -738,8 +775,8 @@ public class AnimationState {
 	void animationsChanged () {
 		animationsChanged = false;
 
-		// Process in the order that animations are applied.
-		propertyIds.clear(2048);
+		// Process in the order that animations are applied. The set keeps its capacity so it is not reallocated on every change.
+		propertyIds.clear();
 		int n = tracks.size;
 		Object[] tracks = this.tracks.items;
 		for (int i = 0; i < n; i++) {
@@ -761,7 +798,7 @@ public class AnimationState {
 		int[] timelineMode = entry.timelineMode.setSize(timelinesCount);
 		entry.timelineHoldMix.clear();
 		Object[] timelineHoldMix = entry.timelineHoldMix.setSize(timelinesCount);
-		ObjectSet<String> propertyIds = this.propertyIds;
+		LongSet propertyIds = this.propertyIds;
 
 		if (to != null && to.holdPrevious) {
 			for (int i = 0; i < timelinesCount; i++)
@@ -772,7 +809,7 @@ public class AnimationState {
 		outer:
 		for (int i = 0; i < timelinesCount; i++) {
 			Timeline timeline = (Timeline)timelines[i];
-			String[] ids = timeline.getPropertyIds();
+			long[] ids = timeline.getPropertyIds();
 			if (!propertyIds.addAll(ids))
 				timelineMode[i] = SUBSEQUENT;
 			else if (to == null || timeline instanceof AttachmentTimeline || timeline instanceof DrawOrderTimeline
@@ -823,6 +860,28 @@ public class AnimationState {
 		queue.clear();
 	}
 
+	/** When true, listener notifications are queued but not delivered until {@link #drainListenerNotifications()} is called. This
+	 * allows the animation state to be updated and applied on a different thread than the one that receives notifications.
+	 * Defaults to false.
+	 * <p>
+	 * See {@link com.esotericsoftware.spine.utils.SkeletonUpdateScheduler}. */
+	public boolean getDeferListenerNotifications () {
+		return queue.deferred;
+	}
+
+	public void setDeferListenerNotifications (boolean deferListenerNotifications) {
+		queue.deferred = deferListenerNotifications;
+	}
+
+	/** Delivers all queued listener notifications, even when notifications are
+	 * {@link #setDeferListenerNotifications(boolean) deferred}. */
+	public void drainListenerNotifications () {
+		boolean deferred = queue.deferred;
+		queue.deferred = false;
+		queue.drain();
+		queue.deferred = deferred;
+	}
+
 	/** Multiplier for the delta time when the animation state is updated, causing time for all animations and mixes to play slower
 	 * or faster. Defaults to 1.
 	 * <p>
@@ -881,6 +940,7 @@ public class AnimationState {
 		final IntArray timelineMode = new IntArray();
 		final Array<TrackEntry> timelineHoldMix = new Array();
 		final FloatArray timelinesRotation = new FloatArray();
+		final IntArray timelineCursors = new IntArray();
 
 		public void reset () {
 			previous = null;
@@ -892,6 +952,7 @@ public class AnimationState {
 			timelineMode.clear();
 			timelineHoldMix.clear();
 			timelinesRotation.clear();
+			timelineCursors.clear();
 		}
 
 		/** The index of the track where this track entry is either current or queued.
@@ -1234,7 +1295,7 @@ public class AnimationState {
 
 	class EventQueue {
 		private final Array objects = new Array();
-		boolean drainDisabled;
+		boolean drainDisabled, deferred;
 
 		void start (TrackEntry entry) {
 			objects.add(EventType.start);
@@ -1271,6 +1332,7 @@ public class AnimationState {
 
 		void drain () {
 			if (drainDisabled) return; // Not reentrant.
+			if (deferred) return; // Delivered by drainListenerNotifications.
 			drainDisabled = true;
 
 			SnapshotArray<AnimationStateListener> listenersArray = AnimationState.this.listeners;
@@ -38,6 +38,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Null;
 
 import com.esotericsoftware.spine.BoneData.TransformMode;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
 
 /** Stores a bone's current pose.
  * <p>
@@ -53,8 +54,12 @@ public class Bone implements Updatable {
 	float ax, ay, arotation, ascaleX, ascaleY, ashearX, ashearY;
 	float a, b, worldX;
 	float c, d, worldY;
+	int worldVersion;
 
 	boolean sorted, active;
+	boolean frozen, frozenMoved;
+	@Null Bone frozenRoot;
+	int frozenVersion;
 
 	public Bone (BoneData data, Skeleton skeleton, @Null Bone parent) {
 		if (data == null) throw new IllegalArgumentException("data cannot be null.");
@@ -106,6 +111,7 @@ public class Bone implements Updatable {
 		ascaleY = scaleY;
 		ashearX = shearX;
 		ashearY = shearY;
+		float oldA = a, oldB = b, oldC = c, oldD = d, oldWorldX = worldX, oldWorldY = worldY;
 
 		Bone parent = this.parent;
 		if (parent == null) { // Root bone.
@@ -117,6 +123,7 @@ public class Bone implements Updatable {
 			d = sinDeg(rotationY) * scaleY * sy;
 			worldX = x * sx + skeleton.x;
 			worldY = y * sy + skeleton.y;
+			updateWorldVersion(oldA, oldB, oldC, oldD, oldWorldX, oldWorldY);
 			return;
 		}
 
@@ -135,6 +142,7 @@ public class Bone implements Updatable {
 			b = pa * lb + pb * ld;
 			c = pc * la + pd * lc;
 			d = pc * lb + pd * ld;
+			updateWorldVersion(oldA, oldB, oldC, oldD, oldWorldX, oldWorldY);
 			return;
 		}
 		case onlyTranslation: {
@@ -201,6 +209,12 @@ public class Bone implements Updatable {
 		b *= skeleton.scaleX;
 		c *= skeleton.scaleY;
 		d *= skeleton.scaleY;
+		updateWorldVersion(oldA, oldB, oldC, oldD, oldWorldX, oldWorldY);
+	}
+
+	private void updateWorldVersion (float a, float b, float c, float d, float worldX, float worldY) {
+		if (a != this.a || b != this.b || c != this.c || d != this.d || worldX != this.worldX || worldY != this.worldY)
+			worldVersion++;
 	}
 
 	/** Sets this bone's local transform to the setup pose. */
@@ -236,7 +250,8 @@ public class Bone implements Updatable {
 	}
 
 	/** Returns false when the bone has not been computed because {@link BoneData#getSkinRequired()} is true and the
-	 * {@link Skeleton#getSkin() active skin} does not {@link Skin#getBones() contain} this bone. */
+	 * {@link Skeleton#getSkin() active skin} does not {@link Skin#getBones() contain} this bone, or because the bone or an
+	 * ancestor is omitted by the {@link Skeleton#getLod() level of detail}. */
 	public boolean isActive () {
 		return active;
 	}
@@ -395,6 +410,7 @@ public class Bone implements Updatable {
 	 * Some information is ambiguous in the world transform, such as -1,-1 scale versus 180 rotation. The applied transform after
 	 * calling this method is equivalent to the local transform used to compute the world transform, but may not be identical. */
 	public void updateAppliedTransform () {
+		worldVersion++; // The world transform was modified.
 		Bone parent = this.parent;
 		if (parent == null) {
 			ax = worldX - skeleton.x;
@@ -444,6 +460,7 @@ public class Bone implements Updatable {
 
 	public void setA (float a) {
 		this.a = a;
+		worldVersion++;
 	}
 
 	/** Part of the world transform matrix for the Y axis. If changed, {@link #updateAppliedTransform()} should be called. */
@@ -453,6 +470,7 @@ public class Bone implements Updatable {
 
 	public void setB (float b) {
 		this.b = b;
+		worldVersion++;
 	}
 
 	/** Part of the world transform matrix for the X axis. If changed, {@link #updateAppliedTransform()} should be called. */
@@ -462,6 +480,7 @@ public class Bone implements Updatable {
 
 	public void setC (float c) {
 		this.c = c;
+		worldVersion++;
 	}
 
 	/** Part of the world transform matrix for the Y axis. If changed, {@link #updateAppliedTransform()} should be called. */
@@ -471,6 +490,7 @@ public class Bone implements Updatable {
 
 	public void setD (float d) {
 		this.d = d;
+		worldVersion++;
 	}
 
 	/** The world X position. If changed, {@link #updateAppliedTransform()} should be called. */
@@ -480,6 +500,7 @@ public class Bone implements Updatable {
 
 	public void setWorldX (float worldX) {
 		this.worldX = worldX;
+		worldVersion++;
 	}
 
 	/** The world Y position. If changed, {@link #updateAppliedTransform()} should be called. */
@@ -489,6 +510,7 @@ public class Bone implements Updatable {
 
 	public void setWorldY (float worldY) {
 		this.worldY = worldY;
+		worldVersion++;
 	}
 
 	/** The world rotation for the X axis, calculated using {@link #a} and {@link #c}. */
@@ -568,6 +590,22 @@ public class Bone implements Updatable {
 		b = cos * b - sin * d;
 		c = sin * a + cos * c;
 		d = sin * b + cos * d;
+		worldVersion++;
+	}
+
+	/** True if this bone or an ancestor was frozen using {@link Skeleton#setFrozen(Bone, boolean)}. */
+	public boolean isFrozen () {
+		return frozenRoot != null;
+	}
+
+	/** Changes each time the world transform changes, so the world transform does not need to be compared to know if things
+	 * computed from it are still valid. It is changed when {@link #updateWorldTransform()} computes a different world transform,
+	 * by the world transform setters, and by {@link #updateAppliedTransform()}, which should be called after modifying the world
+	 * transform.
+	 * <p>
+	 * See {@link Slot#computeWorldVertices(VertexAttachment, float[], int, int)}. */
+	public int getWorldVersion () {
+		return worldVersion;
 	}
 
 	// ---
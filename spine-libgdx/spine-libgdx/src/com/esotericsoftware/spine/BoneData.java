@@ -41,6 +41,7 @@ public class BoneData {
 	float x, y, rotation, scaleX = 1, scaleY = 1, shearX, shearY;
 	TransformMode transformMode = TransformMode.normal;
 	boolean skinRequired;
+	int lod;
 
 	// Nonessential.
 	final Color color = new Color(0.61f, 0.61f, 0.61f, 1); // 9b9b9bff
@@ -67,6 +68,7 @@ public class BoneData {
 		scaleY = bone.scaleY;
 		shearX = bone.shearX;
 		shearY = bone.shearY;
+		lod = bone.lod;
 	}
 
 	/** The index of the bone in {@link Skeleton#getBones()}. */
@@ -187,6 +189,17 @@ public class BoneData {
 		this.skinRequired = skinRequired;
 	}
 
+	/** The level of detail at which this bone is omitted, or 0 if it is never omitted. The bone and its descendants are omitted
+	 * when the {@link Skeleton#getLod()} is >= this value. An omitted bone is not {@link Bone#isActive() active}. */
+	public int getLod () {
+		return lod;
+	}
+
+	public void setLod (int lod) {
+		if (lod < 0) throw new IllegalArgumentException("lod must be >= 0.");
+		this.lod = lod;
+	}
+
 	/** The color of the bone as it was in Spine, or a default color if nonessential data was not exported. Bones are not usually
 	 * rendered at runtime. */
 	public Color getColor () {
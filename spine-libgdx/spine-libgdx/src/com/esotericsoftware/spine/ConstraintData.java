@@ -34,6 +34,7 @@ abstract public class ConstraintData {
 	final String name;
 	int order;
 	boolean skinRequired;
+	int lod;
 
 	public ConstraintData (String name) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
@@ -67,6 +68,17 @@ abstract public class ConstraintData {
 		this.skinRequired = skinRequired;
 	}
 
+	/** The level of detail at which this constraint is omitted, or 0 if it is never omitted. The constraint is omitted when the
+	 * {@link Skeleton#getLod()} is >= this value. An omitted constraint is not active and is not applied. */
+	public int getLod () {
+		return lod;
+	}
+
+	public void setLod (int lod) {
+		if (lod < 0) throw new IllegalArgumentException("lod must be >= 0.");
+		this.lod = lod;
+	}
+
 	public String toString () {
 		return name;
 	}
@@ -31,23 +31,29 @@ package com.esotericsoftware.spine;
 
 import static com.esotericsoftware.spine.utils.SpineUtils.*;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.Null;
 
+import com.esotericsoftware.spine.Animation.AttachmentTimeline;
 import com.esotericsoftware.spine.Skin.SkinEntry;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.MeshAttachment;
 import com.esotericsoftware.spine.attachments.PathAttachment;
 import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.esotericsoftware.spine.utils.SkeletonLod;
 
 /** Stores the current pose for a skeleton.
  * <p>
  * See <a href="http://esotericsoftware.com/spine-runtime-architecture#Instance-objects">Instance objects</a> in the Spine
  * Runtimes Guide. */
 public class Skeleton {
+	static private final Object unresolved = new Object();
+
 	final SkeletonData data;
 	final Array<Bone> bones;
 	final Array<Slot> slots;
@@ -56,11 +62,21 @@ public class Skeleton {
 	final Array<TransformConstraint> transformConstraints;
 	final Array<PathConstraint> pathConstraints;
 	final Array<Updatable> updateCache = new Array();
+	@Null Bone[] updateFrozen;
+	int frozenCount;
 	@Null Skin skin;
+	final SkinEntry attachmentLookup = new SkinEntry(0, "", null);
+	/** Per attachment timeline index, the attachments found for each frame and then for the setup pose, or null. */
+	private Object[][] timelineAttachments = new Object[0][];
+	/** Per attachment timeline index, the attachments version and timeline version the attachments were found for. */
+	private int[] timelineAttachmentVersions = new int[0];
+	private @Null Skin attachmentsSkin, attachmentsDefaultSkin;
+	private int attachmentsVersion = 1, skinVersion, defaultSkinVersion;
 	final Color color;
 	float time;
 	float scaleX = 1, scaleY = 1;
 	float x, y;
+	int lod;
 
 	public Skeleton (SkeletonData data) {
 		if (data == null) throw new IllegalArgumentException("data cannot be null.");
@@ -103,7 +119,7 @@ public class Skeleton {
 
 		color = new Color(1, 1, 1, 1);
 
-		updateCache();
+		restoreUpdateCache();
 	}
 
 	/** Copy constructor. */
@@ -151,13 +167,88 @@ public class Skeleton {
 		time = skeleton.time;
 		scaleX = skeleton.scaleX;
 		scaleY = skeleton.scaleY;
+		lod = skeleton.lod;
 
-		updateCache();
+		restoreUpdateCache();
 	}
 
 	/** Caches information about bones and constraints. Must be called if the {@link #getSkin()} is modified or if bones,
-	 * constraints, or weighted path attachments are added or removed. */
+	 * constraints, or weighted path attachments are added or removed.
+	 * <p>
+	 * The update order is remembered by the {@link SkeletonData}, replacing any it remembered for the same skin and level of
+	 * detail, so other skeletons that use it can reuse the order. It is not remembered if a constraint's target or bones differ
+	 * from its data. */
 	public void updateCache () {
+		sortUpdateCache();
+	}
+
+	/** Reuses the update order remembered by the skeleton data for the current skin and level of detail, if any, else sorts the
+	 * update cache. */
+	private void restoreUpdateCache () {
+		UpdateOrder[] updateOrders = data.updateOrders;
+		if (updateOrders != null && constraintsMatchData()) {
+			for (int i = 0, n = updateOrders.length; i < n; i++) {
+				UpdateOrder order = updateOrders[i];
+				if (order.matches(this)) {
+					order.restore(this);
+					updateFrozen();
+					return;
+				}
+			}
+		}
+		sortUpdateCache();
+	}
+
+	/** Returns true if every constraint's target and bones are those of its data, so the update order can be shared with other
+	 * skeletons. */
+	private boolean constraintsMatchData () {
+		Object[] constraints = ikConstraints.items;
+		for (int i = 0, n = ikConstraints.size; i < n; i++) {
+			IkConstraint constraint = (IkConstraint)constraints[i];
+			if (constraint.target.data != constraint.data.target || !bonesMatchData(constraint.bones, constraint.data.bones))
+				return false;
+		}
+		constraints = transformConstraints.items;
+		for (int i = 0, n = transformConstraints.size; i < n; i++) {
+			TransformConstraint constraint = (TransformConstraint)constraints[i];
+			if (constraint.target.data != constraint.data.target || !bonesMatchData(constraint.bones, constraint.data.bones))
+				return false;
+		}
+		constraints = pathConstraints.items;
+		for (int i = 0, n = pathConstraints.size; i < n; i++) {
+			PathConstraint constraint = (PathConstraint)constraints[i];
+			if (constraint.target.data != constraint.data.target || !bonesMatchData(constraint.bones, constraint.data.bones))
+				return false;
+		}
+		return true;
+	}
+
+	static private boolean bonesMatchData (Array<Bone> bones, Array<BoneData> data) {
+		int n = bones.size;
+		if (n != data.size) return false;
+		Object[] items = bones.items, dataItems = data.items;
+		for (int i = 0; i < n; i++)
+			if (((Bone)items[i]).data != dataItems[i]) return false;
+		return true;
+	}
+
+	/** Remembers the sorted update order in the skeleton data, replacing any for the same state and keeping the 8 most recent.
+	 * The array is replaced rather than modified, so skeletons using it elsewhere never see a partial change. */
+	private void storeUpdateOrder () {
+		UpdateOrder[] updateOrders = data.updateOrders;
+		if (updateOrders == null) {
+			data.updateOrders = new UpdateOrder[] {new UpdateOrder(this)};
+			return;
+		}
+		Array<UpdateOrder> newOrders = new Array(true, updateOrders.length + 1, UpdateOrder.class);
+		for (int i = 0, n = updateOrders.length; i < n; i++)
+			if (!updateOrders[i].matches(this)) newOrders.add(updateOrders[i]);
+		if (newOrders.size == 8) newOrders.removeIndex(0);
+		newOrders.add(new UpdateOrder(this));
+		data.updateOrders = newOrders.toArray();
+	}
+
+	private void sortUpdateCache () {
 		Array<Updatable> updateCache = this.updateCache;
 		updateCache.clear();
 
@@ -179,6 +270,20 @@ public class Skeleton {
 				} while (bone != null);
 			}
 		}
+		if (lod > 0) {
+			for (int i = 0; i < boneCount; i++) { // Parents are before children.
+				Bone bone = (Bone)bones[i];
+				if (bone.active && (lodOmits(bone.data.lod) || (bone.parent != null && !bone.parent.active))) {
+					bone.sorted = true;
+					bone.active = false;
+				}
+			}
+		}
+		Object[] slots = this.slots.items;
+		for (int i = 0, n = this.slots.size; i < n; i++) {
+			Slot slot = (Slot)slots[i];
+			slot.active = slot.bone.active && !lodOmits(slot.data.lod);
+		}
 
 		int ikCount = ikConstraints.size, transformCount = transformConstraints.size, pathCount = pathConstraints.size;
 		Object[] ikConstraints = this.ikConstraints.items;
@@ -212,11 +317,97 @@ public class Skeleton {
 
 		for (int i = 0; i < boneCount; i++)
 			sortBone((Bone)bones[i]);
+
+		if (constraintsMatchData()) storeUpdateOrder();
+
+		updateFrozen();
+	}
+
+	/** Freezes or unfreezes a bone and its descendants. A frozen bone keeps its world transform: its local transform and the
+	 * constraints which only affect frozen bones are not applied. When the world transform of the unfrozen parent changes, the
+	 * frozen bones are moved along with it using their last applied transforms. This is cheaper than freezing using skins and
+	 * {@link #updateCache()}, which sorts all bones and constraints, and is useful for bones that are not visible or don't need
+	 * to be animated, such as hair or cloth on a distant skeleton.
+	 * <p>
+	 * A bone's world transform should be up to date when it is frozen. Constraints that change unfrozen bones are still applied,
+	 * using the frozen transforms of any frozen bones they use. A constraint that changes both frozen and unfrozen bones is
+	 * applied fully, so the frozen bones it changes are moved too.
+	 * @param bone Cannot be the root bone. */
+	public void setFrozen (Bone bone, boolean frozen) {
+		if (bone == null) throw new IllegalArgumentException("bone cannot be null.");
+		if (bone.skeleton != this) throw new IllegalArgumentException("bone must be from this skeleton.");
+		if (bone.parent == null) throw new IllegalArgumentException("The root bone cannot be frozen.");
+		if (bone.frozen == frozen) return;
+		bone.frozen = frozen;
+		bone.frozenVersion = bone.parent.worldVersion;
+		frozenCount += frozen ? 1 : -1;
+		updateFrozen();
+	}
+
+	/** Finds the frozen subtree for each bone and each entry in the update cache, without sorting the update cache again. */
+	private void updateFrozen () {
+		Object[] bones = this.bones.items;
+		int boneCount = this.bones.size;
+		if (frozenCount == 0) {
+			for (int i = 0; i < boneCount; i++)
+				((Bone)bones[i]).frozenRoot = null;
+			updateFrozen = null;
+			return;
+		}
+		for (int i = 0; i < boneCount; i++) { // Parents are before children.
+			Bone bone = (Bone)bones[i], parent = bone.parent, root = parent != null ? parent.frozenRoot : null;
+			bone.frozenRoot = root == null && bone.frozen ? bone : root;
+		}
+
+		int n = updateCache.size;
+		Bone[] updateFrozen = this.updateFrozen;
+		if (updateFrozen == null || updateFrozen.length != n) this.updateFrozen = updateFrozen = new Bone[n];
+		Object[] updateCache = this.updateCache.items;
+		for (int i = 0; i < n; i++) {
+			Object updatable = updateCache[i];
+			Array<Bone> constrained;
+			if (updatable instanceof Bone) {
+				updateFrozen[i] = ((Bone)updatable).frozenRoot;
+				continue;
+			}
+			if (updatable instanceof IkConstraint)
+				constrained = ((IkConstraint)updatable).bones;
+			else if (updatable instanceof TransformConstraint)
+				constrained = ((TransformConstraint)updatable).bones;
+			else if (updatable instanceof PathConstraint)
+				constrained = ((PathConstraint)updatable).bones;
+			else {
+				updateFrozen[i] = null;
+				continue;
+			}
+			// A constraint is frozen only if all the bones it changes are frozen.
+			Bone root = constrained.first().frozenRoot;
+			for (int ii = 1, nn = constrained.size; ii < nn && root != null; ii++)
+				if (constrained.get(ii).frozenRoot == null) root = null;
+			updateFrozen[i] = root;
+		}
+	}
+
+	/** Returns true if the frozen bone or constraint at the update cache index should not be updated. Frozen bones are updated
+	 * only when the parent of their frozen subtree has moved. */
+	boolean skipFrozen (Object updatable, Bone root) {
+		if (updatable == root) {
+			int version = root.parent.worldVersion;
+			root.frozenMoved = version != root.frozenVersion;
+			root.frozenVersion = version;
+			return !root.frozenMoved;
+		}
+		return !root.frozenMoved || !(updatable instanceof Bone);
+	}
+
+	private boolean lodOmits (int lod) {
+		return lod != 0 && this.lod >= lod;
 	}
 
 	private void sortIkConstraint (IkConstraint constraint) {
 		constraint.active = constraint.target.active
-			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
+			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)))
+			&& !lodOmits(constraint.data.lod);
 		if (!constraint.active) return;
 
 		Bone target = constraint.target;
@@ -241,7 +432,8 @@ public class Skeleton {
 
 	private void sortPathConstraint (PathConstraint constraint) {
 		constraint.active = constraint.target.bone.active
-			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
+			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)))
+			&& !lodOmits(constraint.data.lod);
 		if (!constraint.active) return;
 
 		Slot slot = constraint.target;
@@ -269,7 +461,8 @@ public class Skeleton {
 
 	private void sortTransformConstraint (TransformConstraint constraint) {
 		constraint.active = constraint.target.active
-			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
+			&& (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)))
+			&& !lodOmits(constraint.data.lod);
 		if (!constraint.active) return;
 
 		sortBone(constraint.target);
@@ -345,6 +538,7 @@ public class Skeleton {
 		Object[] bones = this.bones.items;
 		for (int i = 0, n = this.bones.size; i < n; i++) {
 			Bone bone = (Bone)bones[i];
+			if (bone.frozenRoot != null) continue;
 			bone.ax = bone.x;
 			bone.ay = bone.y;
 			bone.arotation = bone.rotation;
@@ -355,8 +549,17 @@ public class Skeleton {
 		}
 
 		Object[] updateCache = this.updateCache.items;
-		for (int i = 0, n = this.updateCache.size; i < n; i++)
-			((Updatable)updateCache[i]).update();
+		Bone[] updateFrozen = this.updateFrozen;
+		if (updateFrozen == null) {
+			for (int i = 0, n = this.updateCache.size; i < n; i++)
+				((Updatable)updateCache[i]).update();
+		} else {
+			for (int i = 0, n = this.updateCache.size; i < n; i++) {
+				Object updatable = updateCache[i];
+				Bone root = updateFrozen[i];
+				if (root == null || !skipFrozen(updatable, root)) ((Updatable)updatable).update();
+			}
+		}
 	}
 
 	/** Temporarily sets the root bone as a child of the specified bone, then updates the world transform for each bone and applies
@@ -382,12 +585,16 @@ public class Skeleton {
 		rootBone.b = (pa * lb + pb * ld) * scaleX;
 		rootBone.c = (pc * la + pd * lc) * scaleY;
 		rootBone.d = (pc * lb + pd * ld) * scaleY;
+		rootBone.worldVersion++;
 
 		// Update everything except root bone.
 		Object[] updateCache = this.updateCache.items;
+		Bone[] updateFrozen = this.updateFrozen;
 		for (int i = 0, n = this.updateCache.size; i < n; i++) {
 			Updatable updatable = (Updatable)updateCache[i];
-			if (updatable != rootBone) updatable.update();
+			if (updatable == rootBone) continue;
+			Bone root = updateFrozen != null ? updateFrozen[i] : null;
+			if (root == null || !skipFrozen(updatable, root)) updatable.update();
 		}
 	}
 
@@ -520,7 +727,9 @@ public class Skeleton {
 	}
 
 	/** Sets the skin used to look up attachments before looking in the {@link SkeletonData#getDefaultSkin() default skin}. If the
-	 * skin is changed, {@link #updateCache()} is called.
+	 * skin is changed, the {@link #getUpdateCache()} is updated. The update order for each skin is remembered by the
+	 * {@link SkeletonData}, so switching back to a skin, or another skeleton using the skin, does not sort the bones and
+	 * constraints again. {@link #updateCache()} must be called if a skin is modified.
 	 * <p>
 	 * Attachments from the new skin are attached if the corresponding attachment from the old skin was attached. If there was no
 	 * old skin, each slot's setup mode attachment is attached from the new skin.
@@ -540,14 +749,15 @@ public class Skeleton {
 					Slot slot = (Slot)slots[i];
 					String name = slot.data.attachmentName;
 					if (name != null) {
-						Attachment attachment = newSkin.getAttachment(i, name);
+						attachmentLookup.set(i, name);
+						Attachment attachment = newSkin.getAttachment(attachmentLookup);
 						if (attachment != null) slot.setAttachment(attachment);
 					}
 				}
 			}
 		}
 		skin = newSkin;
-		updateCache();
+		restoreUpdateCache();
 	}
 
 	/** Finds an attachment by looking in the {@link #skin} and {@link SkeletonData#defaultSkin} using the slot name and attachment
@@ -566,14 +776,81 @@ public class Skeleton {
 	 * See <a href="http://esotericsoftware.com/spine-runtime-skins">Runtime skins</a> in the Spine Runtimes Guide. */
 	public @Null Attachment getAttachment (int slotIndex, String attachmentName) {
 		if (attachmentName == null) throw new IllegalArgumentException("attachmentName cannot be null.");
+		SkinEntry lookup = attachmentLookup;
+		lookup.set(slotIndex, attachmentName);
 		if (skin != null) {
-			Attachment attachment = skin.getAttachment(slotIndex, attachmentName);
+			Attachment attachment = skin.getAttachment(lookup);
 			if (attachment != null) return attachment;
 		}
-		if (data.defaultSkin != null) return data.defaultSkin.getAttachment(slotIndex, attachmentName);
+		if (data.defaultSkin != null) return data.defaultSkin.getAttachment(lookup);
 		return null;
 	}
 
+	/** Returns the attachment for an attachment timeline's frame, as found by {@link #getAttachment(int, String)}. Each
+	 * attachment is found once and then reused until a different skin is used or an attachment is added to or removed from the
+	 * skin or default skin. Attachment timelines not read by {@link SkeletonBinary} or {@link SkeletonJson} have no index, so
+	 * their attachments are found each time.
+	 * @param frame The frame index, or -1 for the slot's setup pose attachment. */
+	@Null Attachment getTimelineAttachment (AttachmentTimeline timeline, int frame) {
+		String[] attachmentNames = timeline.attachmentNames;
+		String name;
+		if (frame == -1) {
+			name = slots.get(timeline.slotIndex).data.attachmentName;
+			frame = attachmentNames.length;
+		} else
+			name = attachmentNames[frame];
+		if (name == null) return null;
+
+		Skin skin = this.skin, defaultSkin = data.defaultSkin;
+		if (skin != attachmentsSkin || defaultSkin != attachmentsDefaultSkin || (skin != null && skin.version != skinVersion)
+			|| (defaultSkin != null && defaultSkin.version != defaultSkinVersion)) {
+			attachmentsSkin = skin;
+			attachmentsDefaultSkin = defaultSkin;
+			skinVersion = skin != null ? skin.version : 0;
+			defaultSkinVersion = defaultSkin != null ? defaultSkin.version : 0;
+			attachmentsVersion++;
+		}
+
+		int index = timeline.index;
+		if (index == -1) return getAttachment(timeline.slotIndex, name); // Not read from skeleton data.
+		if (index >= timelineAttachments.length) growTimelineAttachments();
+		Object[] attachments = timelineAttachments[index];
+		int[] versions = timelineAttachmentVersions;
+		int v = index << 1;
+		if (versions[v] != attachmentsVersion || versions[v + 1] != timeline.version)
+			attachments = resetTimelineAttachments(timeline, attachments);
+		Object attachment = attachments[frame];
+		if (attachment == unresolved) {
+			attachment = getAttachment(timeline.slotIndex, name);
+			attachments[frame] = attachment;
+		}
+		return (Attachment)attachment;
+	}
+
+	/** Grows the arrays for attachment timelines of animations decoded after they were allocated. */
+	private void growTimelineAttachments () {
+		int count = data.attachmentTimelineCount;
+		Object[][] attachments = new Object[count][];
+		arraycopy(timelineAttachments, 0, attachments, 0, timelineAttachments.length);
+		timelineAttachments = attachments;
+		int[] versions = new int[count << 1];
+		arraycopy(timelineAttachmentVersions, 0, versions, 0, timelineAttachmentVersions.length);
+		timelineAttachmentVersions = versions;
+	}
+
+	private Object[] resetTimelineAttachments (AttachmentTimeline timeline, @Null Object[] attachments) {
+		int count = timeline.attachmentNames.length + 1;
+		if (attachments == null || attachments.length != count) {
+			attachments = new Object[count];
+			timelineAttachments[timeline.index] = attachments;
+		}
+		Arrays.fill(attachments, unresolved);
+		int v = timeline.index << 1;
+		timelineAttachmentVersions[v] = attachmentsVersion;
+		timelineAttachmentVersions[v + 1] = timeline.version;
+		return attachments;
+	}
+
 	/** A convenience method to set an attachment by finding the slot with {@link #findSlot(String)}, finding the attachment with
 	 * {@link #getAttachment(int, String)}, then setting the slot's {@link Slot#attachment}.
 	 * @param attachmentName May be null to clear the slot's attachment. */
@@ -697,6 +974,29 @@ public class Skeleton {
 		color.set(r, g, b, a);
 	}
 
+	/** The level of detail, where 0 is the most detail. Bones, slots, and constraints whose {@link BoneData#getLod()},
+	 * {@link SlotData#getLod()}, or {@link ConstraintData#getLod()} is not 0 and is <= this value are omitted: they are not
+	 * active, so they are not updated, applied by animations, or drawn. Mesh attachments may also use fewer triangles, see
+	 * {@link MeshAttachment#getTriangles(int)}.
+	 * <p>
+	 * A constraint is omitted if its target is omitted, but constraints that change omitted bones should be given an LOD too.
+	 * See {@link SkeletonLod} to assign levels of detail automatically. */
+	public int getLod () {
+		return lod;
+	}
+
+	/** Sets the level of detail and, if it changed, updates the {@link #getUpdateCache()}. The update order for each level of
+	 * detail is remembered by the {@link SkeletonData}, so switching back to a level does not sort the bones and constraints
+	 * again.
+	 * <p>
+	 * See {@link #getLod()}. */
+	public void setLod (int lod) {
+		if (lod < 0) throw new IllegalArgumentException("lod must be >= 0.");
+		if (this.lod == lod) return;
+		this.lod = lod;
+		restoreUpdateCache();
+	}
+
 	/** Scales the entire skeleton on the X axis. This affects all bones, even if the bone's transform mode disallows scale
 	 * inheritance. */
 	public float getScaleX () {
@@ -765,4 +1065,198 @@ public class Skeleton {
 	public String toString () {
 		return data.name != null ? data.name : super.toString();
 	}
+
+	/** An update cache sorted by {@link Skeleton#updateCache()} and the state it was sorted for. It is immutable and stores
+	 * indices rather than bones and constraints, so it is shared by all skeletons that use the same {@link SkeletonData}. */
+	static class UpdateOrder {
+		final @Null Skin skin;
+		final @Null Object[] skinBones, skinConstraints;
+		final int skinVersion, defaultSkinVersion, lod;
+		/** The bone, slot, and constraint data levels of detail, or null if the level of detail is 0. */
+		final @Null int[] lods;
+		final Attachment[] pathAttachments;
+		/** Bone indices, then IK, transform, and path constraint indices offset by the number of bones and preceding
+		 * constraints. */
+		final int[] updateCache;
+		final boolean[] bonesActive, constraintsActive;
+
+		UpdateOrder (Skeleton skeleton) {
+			Skin skin = skeleton.skin, defaultSkin = skeleton.data.defaultSkin;
+			this.skin = skin;
+			if (skin != null) {
+				skinBones = skin.bones.toArray(Object.class);
+				skinConstraints = skin.constraints.toArray(Object.class);
+				skinVersion = skin.version;
+			} else {
+				skinBones = null;
+				skinConstraints = null;
+				skinVersion = 0;
+			}
+			defaultSkinVersion = defaultSkin != null ? defaultSkin.version : 0;
+			lod = skeleton.lod;
+			lods = lod > 0 ? lods(skeleton) : null;
+
+			Object[] pathConstraints = skeleton.pathConstraints.items;
+			pathAttachments = new Attachment[skeleton.pathConstraints.size];
+			for (int i = 0, n = pathAttachments.length; i < n; i++)
+				pathAttachments[i] = pathAttachment((PathConstraint)pathConstraints[i]);
+
+			int boneCount = skeleton.bones.size, ikCount = skeleton.ikConstraints.size;
+			int transformCount = skeleton.transformConstraints.size;
+			Object[] updatables = skeleton.updateCache.items;
+			updateCache = new int[skeleton.updateCache.size];
+			for (int i = 0, n = updateCache.length; i < n; i++) {
+				Object updatable = updatables[i];
+				if (updatable instanceof Bone)
+					updateCache[i] = ((Bone)updatable).data.index;
+				else if (updatable instanceof IkConstraint)
+					updateCache[i] = boneCount + skeleton.ikConstraints.indexOf((IkConstraint)updatable, true);
+				else if (updatable instanceof TransformConstraint)
+					updateCache[i] = boneCount + ikCount
+						+ skeleton.transformConstraints.indexOf((TransformConstraint)updatable, true);
+				else {
+					updateCache[i] = boneCount + ikCount + transformCount
+						+ skeleton.pathConstraints.indexOf((PathConstraint)updatable, true);
+				}
+			}
+
+			Object[] bones = skeleton.bones.items;
+			bonesActive = new boolean[boneCount];
+			for (int i = 0; i < boneCount; i++)
+				bonesActive[i] = ((Bone)bones[i]).active;
+
+			constraintsActive = new boolean[ikCount + transformCount + pathAttachments.length];
+			Object[] constraints = skeleton.ikConstraints.items;
+			for (int i = 0; i < ikCount; i++)
+				constraintsActive[i] = ((IkConstraint)constraints[i]).active;
+			constraints = skeleton.transformConstraints.items;
+			for (int i = 0; i < transformCount; i++)
+				constraintsActive[ikCount + i] = ((TransformConstraint)constraints[i]).active;
+			for (int i = 0, ii = ikCount + transformCount, n = pathAttachments.length; i < n; i++, ii++)
+				constraintsActive[ii] = ((PathConstraint)pathConstraints[i]).active;
+		}
+
+		/** Returns true if sorting the update cache for the skeleton would give this order. */
+		boolean matches (Skeleton skeleton) {
+			Skin skin = skeleton.skin, defaultSkin = skeleton.data.defaultSkin;
+			if (skin != this.skin || skeleton.lod != lod) return false;
+			if (skin != null && (skin.version != skinVersion || !equal(skin.bones, skinBones)
+				|| !equal(skin.constraints, skinConstraints))) return false;
+			if ((defaultSkin != null ? defaultSkin.version : 0) != defaultSkinVersion) return false;
+			if (lods != null && !lodsMatch(skeleton.data)) return false;
+			// The bones a path constraint needs depend on the path attachment of its target slot.
+			Object[] pathConstraints = skeleton.pathConstraints.items;
+			for (int i = 0, n = pathAttachments.length; i < n; i++)
+				if (pathAttachment((PathConstraint)pathConstraints[i]) != pathAttachments[i]) return false;
+			return true;
+		}
+
+		void restore (Skeleton skeleton) {
+			Object[] bones = skeleton.bones.items;
+			int boneCount = bonesActive.length;
+			for (int i = 0; i < boneCount; i++) {
+				Bone bone = (Bone)bones[i];
+				bone.sorted = true;
+				bone.active = bonesActive[i];
+			}
+
+			Object[] slots = skeleton.slots.items;
+			for (int i = 0, n = skeleton.slots.size; i < n; i++) {
+				Slot slot = (Slot)slots[i];
+				slot.active = slot.bone.active && !skeleton.lodOmits(slot.data.lod);
+			}
+
+			int ikCount = skeleton.ikConstraints.size, transformCount = skeleton.transformConstraints.size;
+			Object[] ikConstraints = skeleton.ikConstraints.items;
+			for (int i = 0; i < ikCount; i++)
+				((IkConstraint)ikConstraints[i]).active = constraintsActive[i];
+			Object[] transformConstraints = skeleton.transformConstraints.items;
+			for (int i = 0; i < transformCount; i++)
+				((TransformConstraint)transformConstraints[i]).active = constraintsActive[ikCount + i];
+			Object[] pathConstraints = skeleton.pathConstraints.items;
+			for (int i = 0, ii = ikCount + transformCount, n = pathAttachments.length; i < n; i++, ii++)
+				((PathConstraint)pathConstraints[i]).active = constraintsActive[ii];
+
+			int[] updateCache = this.updateCache;
+			int n = updateCache.length;
+			Array<Updatable> updatables = skeleton.updateCache;
+			updatables.clear();
+			Object[] items = updatables.ensureCapacity(n);
+			for (int i = 0; i < n; i++) {
+				int index = updateCache[i];
+				if (index < boneCount)
+					items[i] = bones[index];
+				else if ((index -= boneCount) < ikCount)
+					items[i] = ikConstraints[index];
+				else if ((index -= ikCount) < transformCount)
+					items[i] = transformConstraints[index];
+				else
+					items[i] = pathConstraints[index - transformCount];
+			}
+			updatables.size = n;
+		}
+
+		static private boolean equal (Array array, Object[] items) {
+			int n = array.size;
+			if (n != items.length) return false;
+			Object[] arrayItems = array.items;
+			for (int i = 0; i < n; i++)
+				if (arrayItems[i] != items[i]) return false;
+			return true;
+		}
+
+		static private int[] lods (Skeleton skeleton) {
+			SkeletonData data = skeleton.data;
+			int boneCount = data.bones.size, slotCount = data.slots.size, ikCount = data.ikConstraints.size;
+			int transformCount = data.transformConstraints.size;
+			int[] lods = new int[boneCount + slotCount + ikCount + transformCount + data.pathConstraints.size];
+			int i = 0;
+			Object[] items = data.bones.items;
+			for (int ii = 0; ii < boneCount; ii++)
+				lods[i++] = ((BoneData)items[ii]).lod;
+			items = data.slots.items;
+			for (int ii = 0; ii < slotCount; ii++)
+				lods[i++] = ((SlotData)items[ii]).lod;
+			items = data.ikConstraints.items;
+			for (int ii = 0; ii < ikCount; ii++)
+				lods[i++] = ((ConstraintData)items[ii]).lod;
+			items = data.transformConstraints.items;
+			for (int ii = 0; ii < transformCount; ii++)
+				lods[i++] = ((ConstraintData)items[ii]).lod;
+			items = data.pathConstraints.items;
+			for (int ii = 0, n = data.pathConstraints.size; ii < n; ii++)
+				lods[i++] = ((ConstraintData)items[ii]).lod;
+			return lods;
+		}
+
+		/** Returns true if the data's levels of detail are those in {@link #lods}, without allocating. */
+		private boolean lodsMatch (SkeletonData data) {
+			int[] lods = this.lods;
+			int boneCount = data.bones.size, slotCount = data.slots.size, ikCount = data.ikConstraints.size;
+			int transformCount = data.transformConstraints.size, pathCount = data.pathConstraints.size;
+			if (lods.length != boneCount + slotCount + ikCount + transformCount + pathCount) return false;
+			int i = 0;
+			Object[] items = data.bones.items;
+			for (int ii = 0; ii < boneCount; ii++)
+				if (((BoneData)items[ii]).lod != lods[i++]) return false;
+			items = data.slots.items;
+			for (int ii = 0; ii < slotCount; ii++)
+				if (((SlotData)items[ii]).lod != lods[i++]) return false;
+			items = data.ikConstraints.items;
+			for (int ii = 0; ii < ikCount; ii++)
+				if (((ConstraintData)items[ii]).lod != lods[i++]) return false;
+			items = data.transformConstraints.items;
+			for (int ii = 0; ii < transformCount; ii++)
+				if (((ConstraintData)items[ii]).lod != lods[i++]) return false;
+			items = data.pathConstraints.items;
+			for (int ii = 0; ii < pathCount; ii++)
+				if (((ConstraintData)items[ii]).lod != lods[i++]) return false;
+			return true;
+		}
+
+		static private @Null Attachment pathAttachment (PathConstraint constraint) {
+			Attachment attachment = constraint.target.attachment;
+			return attachment instanceof PathAttachment ? attachment : null;
+		}
+	}
 }
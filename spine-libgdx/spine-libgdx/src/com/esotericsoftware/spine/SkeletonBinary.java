@@ -32,6 +32,12 @@ package com.esotericsoftware.spine;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
@@ -41,7 +47,9 @@ import com.badlogic.gdx.utils.DataInput;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.SerializationException;
+import com.badlogic.gdx.utils.StreamUtils;
 
 import com.esotericsoftware.spine.Animation.AlphaTimeline;
 import com.esotericsoftware.spine.Animation.AttachmentTimeline;
@@ -76,6 +84,7 @@ import com.esotericsoftware.spine.PathConstraintData.PositionMode;
 import com.esotericsoftware.spine.PathConstraintData.RotateMode;
 import com.esotericsoftware.spine.PathConstraintData.SpacingMode;
 import com.esotericsoftware.spine.SkeletonJson.LinkedMesh;
+import com.esotericsoftware.spine.Skin.SkinEntry;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.AttachmentLoader;
 import com.esotericsoftware.spine.attachments.AttachmentType;
@@ -119,6 +128,8 @@ public class SkeletonBinary extends SkeletonLoader {
 	static public final int CURVE_STEPPED = 1;
 	static public final int CURVE_BEZIER = 2;
 
+	private boolean lazyAnimations;
+
 	public SkeletonBinary (AttachmentLoader attachmentLoader) {
 		super(attachmentLoader);
 	}
@@ -127,6 +138,21 @@ public class SkeletonBinary extends SkeletonLoader {
 		super(atlas);
 	}
 
+	/** When true, animation timelines are not decoded until an animation is first used. See {@link #setLazyAnimations(boolean)}. */
+	public boolean getLazyAnimations () {
+		return lazyAnimations;
+	}
+
+	/** When true, the animations in skeleton data read afterward have no timelines until an animation's timelines, duration, or
+	 * bake are first used, or it is found by {@link SkeletonData#findAnimation(String)} or
+	 * {@link SkeletonData#preload(String...)}. The animations' bytes are kept until all of them have been decoded. This reduces
+	 * load time and memory for skeletons with many animations when only a few are used. Default is false.
+	 * <p>
+	 * When reading from a {@link ByteBuffer}, the buffer is used to decode the animations later and must not be changed. */
+	public void setLazyAnimations (boolean lazyAnimations) {
+		this.lazyAnimations = lazyAnimations;
+	}
+
 	public SkeletonData readSkeletonData (FileHandle file) {
 		if (file == null) throw new IllegalArgumentException("file cannot be null.");
 		SkeletonData skeletonData = readSkeletonData(file.read());
@@ -136,10 +162,21 @@ public class SkeletonBinary extends SkeletonLoader {
 
 	public SkeletonData readSkeletonData (InputStream dataInput) {
 		if (dataInput == null) throw new IllegalArgumentException("dataInput cannot be null.");
+		return readSkeletonData(new StreamInput(dataInput));
+	}
 
+	/** Reads skeleton data from the buffer's position to its limit, decoding directly from the buffer without copying it to a
+	 * stream. The buffer's position, limit, and byte order are not changed.
+	 * <p>
+	 * A {@link java.nio.MappedByteBuffer}, such as from {@link FileHandle#map()}, avoids reading the file into the Java heap. */
+	public SkeletonData readSkeletonData (ByteBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("buffer cannot be null.");
+		return readSkeletonData(new BufferInput(buffer));
+	}
+
+	private SkeletonData readSkeletonData (SkeletonInput input) {
 		float scale = this.scale;
 
-		SkeletonInput input = new SkeletonInput(dataInput);
 		SkeletonData skeletonData = new SkeletonData();
 		try {
 			long hash = input.readLong();
@@ -323,8 +360,45 @@ public class SkeletonBinary extends SkeletonLoader {
 
 			// Animations.
 			o = skeletonData.animations.setSize(n = input.readInt(true));
-			for (int i = 0; i < n; i++)
-				o[i] = readAnimation(input, input.readString(), skeletonData);
+			if (lazyAnimations && n > 0) {
+				LazyAnimations lazy = new LazyAnimations(input.remaining(), input.strings, skeletonData, scale, n);
+				BufferInput animationInput = new BufferInput(lazy.data);
+				animationInput.strings = input.strings;
+				for (int i = 0; i < n; i++) {
+					Animation animation = new Animation(animationInput.readString(), new Array(0), 0);
+					animation.lazy = lazy;
+					lazy.offsets.put(animation, animationInput.position());
+					// The attachment timeline indices are reserved now, so they are the same as when decoded eagerly.
+					lazy.attachmentTimelineIndices.put(animation, skeletonData.attachmentTimelineCount);
+					skeletonData.attachmentTimelineCount += skipAnimation(animationInput, skeletonData);
+					o[i] = animation;
+				}
+			} else if (animationExecutor != null && n > 1) {
+				final ByteBuffer data = input.remaining();
+				final String[] strings = input.strings;
+				BufferInput animationInput = new BufferInput(data);
+				animationInput.strings = strings;
+				ArrayList<Callable<Animation>> tasks = new ArrayList(n);
+				for (int i = 0; i < n; i++) {
+					final String name = animationInput.readString();
+					final int offset = animationInput.position();
+					tasks.add(new Callable<Animation>() {
+						public Animation call () {
+							return readAnimation(data, offset, strings, name, skeletonData, scale);
+						}
+					});
+					skipAnimation(animationInput, skeletonData);
+				}
+				readAnimations(tasks, o);
+				for (int i = 0; i < n; i++)
+					skeletonData.indexAttachmentTimelines((Animation)o[i]);
+			} else {
+				for (int i = 0; i < n; i++) {
+					Animation animation = readAnimation(input, input.readString(), skeletonData, scale);
+					skeletonData.indexAttachmentTimelines(animation);
+					o[i] = animation;
+				}
+			}
 
 		} catch (IOException ex) {
 			throw new SerializationException("Error reading skeleton file.", ex);
@@ -581,9 +655,9 @@ public class SkeletonBinary extends SkeletonLoader {
 		return array;
 	}
 
-	private Animation readAnimation (SkeletonInput input, String name, SkeletonData skeletonData) throws IOException {
+	static private Animation readAnimation (SkeletonInput input, String name, SkeletonData skeletonData, float scale)
+		throws IOException {
 		Array<Timeline> timelines = new Array(input.readInt(true));
-		float scale = this.scale;
 
 		// Slot timelines.
 		for (int i = 0, n = input.readInt(true); i < n; i++) {
@@ -898,7 +972,8 @@ public class SkeletonBinary extends SkeletonLoader {
 				int slotIndex = input.readInt(true);
 				for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
 					String attachmentName = input.readStringRef();
-					VertexAttachment attachment = (VertexAttachment)skin.getAttachment(slotIndex, attachmentName);
+					// Lazy animations may be decoded on any thread, so the skin's own lookup key is not used.
+					VertexAttachment attachment = (VertexAttachment)skin.getAttachment(new SkinEntry(slotIndex, attachmentName, null));
 					if (attachment == null) throw new SerializationException("Vertex attachment not found: " + attachmentName);
 					boolean weighted = attachment.getBones() != null;
 					float[] vertices = attachment.getVertices();
@@ -1005,7 +1080,170 @@ public class SkeletonBinary extends SkeletonLoader {
 		return new Animation(name, timelines, duration);
 	}
 
-	private Timeline readTimeline (SkeletonInput input, CurveTimeline1 timeline, float scale) throws IOException {
+	/** Decodes the animation at the offset in data whose animations were located by {@link #skipAnimation(BufferInput, SkeletonData)}.
+	 * The data is not changed, so this may be called concurrently. */
+	static Animation readAnimation (ByteBuffer data, int offset, String[] strings, String name, SkeletonData skeletonData,
+		float scale) {
+		data = data.duplicate();
+		data.position(offset);
+		BufferInput input = new BufferInput(data);
+		input.strings = strings;
+		try {
+			return readAnimation(input, name, skeletonData, scale);
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading animation: " + name, ex);
+		}
+	}
+
+	/** Advances past an animation's timelines without decoding them.
+	 * @return The number of attachment timelines. */
+	static private int skipAnimation (BufferInput input, SkeletonData skeletonData) throws IOException {
+		int attachmentTimelines = 0;
+		input.readInt(true);
+
+		// Slot timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int timelineType = input.readByte(), frameCount = input.readInt(true);
+				switch (timelineType) {
+				case SLOT_ATTACHMENT:
+					attachmentTimelines++;
+					for (int frame = 0; frame < frameCount; frame++) {
+						input.skip(4);
+						input.readInt(true);
+					}
+					break;
+				case SLOT_RGBA:
+					input.readInt(true);
+					skipCurves(input, frameCount, 8, 0, 4);
+					break;
+				case SLOT_RGB:
+					input.readInt(true);
+					skipCurves(input, frameCount, 7, 0, 3);
+					break;
+				case SLOT_RGBA2:
+					input.readInt(true);
+					skipCurves(input, frameCount, 11, 0, 7);
+					break;
+				case SLOT_RGB2:
+					input.readInt(true);
+					skipCurves(input, frameCount, 10, 0, 6);
+					break;
+				case SLOT_ALPHA:
+					input.readInt(true);
+					skipCurves(input, frameCount, 5, 0, 1);
+				}
+			}
+		}
+
+		// Bone timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int type = input.readByte(), frameCount = input.readInt(true);
+				input.readInt(true);
+				switch (type) {
+				case BONE_TRANSLATE:
+				case BONE_SCALE:
+				case BONE_SHEAR:
+					skipCurves(input, frameCount, 12, 0, 2);
+					break;
+				default:
+					skipCurves(input, frameCount, 8, 0, 1);
+				}
+			}
+		}
+
+		// IK constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			int frameCount = input.readInt(true);
+			input.readInt(true);
+			skipCurves(input, frameCount, 12, 3, 2);
+		}
+
+		// Transform constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			int frameCount = input.readInt(true);
+			input.readInt(true);
+			skipCurves(input, frameCount, 28, 0, 6);
+		}
+
+		// Path constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int type = input.readByte(), frameCount = input.readInt(true);
+				input.readInt(true);
+				if (type == PATH_MIX)
+					skipCurves(input, frameCount, 16, 0, 3);
+				else
+					skipCurves(input, frameCount, 8, 0, 1);
+			}
+		}
+
+		// Deform timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				input.readInt(true);
+				for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
+					input.readInt(true);
+					int frameLast = input.readInt(true) - 1;
+					input.readInt(true);
+					input.skip(4);
+					for (int frame = 0;; frame++) {
+						int end = input.readInt(true);
+						if (end != 0) {
+							input.readInt(true);
+							input.skip(end << 2);
+						}
+						if (frame == frameLast) break;
+						input.skip(4);
+						if (input.readByte() == CURVE_BEZIER) input.skip(16);
+					}
+				}
+			}
+		}
+
+		// Draw order timeline.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.skip(4);
+			for (int ii = 0, nn = input.readInt(true) << 1; ii < nn; ii++)
+				input.readInt(true);
+		}
+
+		// Event timeline.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.skip(4);
+			EventData eventData = skeletonData.events.get(input.readInt(true));
+			input.readInt(false);
+			input.skip(4);
+			if (input.readBoolean()) {
+				int byteCount = input.readInt(true);
+				if (byteCount > 1) input.skip(byteCount - 1);
+			}
+			if (eventData.audioPath != null) input.skip(8);
+		}
+		return attachmentTimelines;
+	}
+
+	/** Advances past the frames of a curve timeline.
+	 * @param before The bytes of each frame before the curve type.
+	 * @param after The bytes of each frame after the curve type, which precede the next frame's values.
+	 * @param values The number of curves for a frame that uses a bezier curve. */
+	static private void skipCurves (BufferInput input, int frameCount, int before, int after, int values) throws IOException {
+		input.skip(before + after);
+		for (int frame = 1; frame < frameCount; frame++) {
+			input.skip(before);
+			if (input.readByte() == CURVE_BEZIER) input.skip(values << 4);
+			input.skip(after);
+		}
+	}
+
+	static private Timeline readTimeline (SkeletonInput input, CurveTimeline1 timeline, float scale) throws IOException {
 		float time = input.readFloat(), value = input.readFloat() * scale;
 		for (int frame = 0, bezier = 0, frameLast = timeline.getFrameCount() - 1;; frame++) {
 			timeline.setFrame(frame, time, value);
@@ -1024,7 +1262,7 @@ public class SkeletonBinary extends SkeletonLoader {
 		return timeline;
 	}
 
-	private Timeline readTimeline (SkeletonInput input, CurveTimeline2 timeline, float scale) throws IOException {
+	static private Timeline readTimeline (SkeletonInput input, CurveTimeline2 timeline, float scale) throws IOException {
 		float time = input.readFloat(), value1 = input.readFloat() * scale, value2 = input.readFloat() * scale;
 		for (int frame = 0, bezier = 0, frameLast = timeline.getFrameCount() - 1;; frame++) {
 			timeline.setFrame(frame, time, value1, value2);
@@ -1045,35 +1283,125 @@ public class SkeletonBinary extends SkeletonLoader {
 		return timeline;
 	}
 
-	void setBezier (SkeletonInput input, CurveTimeline timeline, int bezier, int frame, int value, float time1, float time2,
+	static void setBezier (SkeletonInput input, CurveTimeline timeline, int bezier, int frame, int value, float time1,
+		float time2,
 		float value1, float value2, float scale) throws IOException {
 		timeline.setBezier(bezier, frame, value, time1, value1, input.readFloat(), input.readFloat() * scale, input.readFloat(),
 			input.readFloat() * scale, time2, value2);
 	}
 
+	/** Decodes the animations of skeleton data that was read with {@link SkeletonBinary#setLazyAnimations(boolean)}. */
+	static class LazyAnimations {
+		@Null ByteBuffer data;
+		final String[] strings;
+		final SkeletonData skeletonData;
+		final float scale;
+		final ObjectIntMap<Animation> offsets, attachmentTimelineIndices;
+
+		LazyAnimations (ByteBuffer data, String[] strings, SkeletonData skeletonData, float scale, int animationCount) {
+			this.data = data;
+			this.strings = strings;
+			this.skeletonData = skeletonData;
+			this.scale = scale;
+			offsets = new ObjectIntMap(animationCount);
+			attachmentTimelineIndices = new ObjectIntMap(animationCount);
+		}
+
+		synchronized void load (Animation animation) {
+			if (animation.lazy == null) return;
+			Animation decoded = readAnimation(data, offsets.remove(animation, 0), strings, animation.name, skeletonData, scale);
+			SkeletonData.indexAttachmentTimelines(decoded.timelines, attachmentTimelineIndices.remove(animation, 0));
+			animation.duration = decoded.duration;
+			animation.setTimelines(decoded.timelines); // Clears lazy after the timeline IDs, so other threads see the duration too.
+			if (offsets.size == 0) this.data = null;
+		}
+	}
+
 	static class Vertices {
 		int[] bones;
 		float[] vertices;
 	}
 
-	static class SkeletonInput extends DataInput {
-		private char[] chars = new char[32];
+	static abstract class SkeletonInput {
 		String[] strings;
 
-		public SkeletonInput (InputStream input) {
-			super(input);
-		}
+		/** Returns the next byte as an unsigned value, or -1 at the end of the input. */
+		public abstract int read () throws IOException;
 
-		public SkeletonInput (FileHandle file) {
-			super(file.read(512));
-		}
+		public abstract byte readByte () throws IOException;
+
+		public abstract boolean readBoolean () throws IOException;
+
+		public abstract short readShort () throws IOException;
+
+		public abstract int readInt () throws IOException;
+
+		/** Reads a 1-5 byte variable length int. */
+		public abstract int readInt (boolean optimizePositive) throws IOException;
+
+		public abstract long readLong () throws IOException;
+
+		public abstract float readFloat () throws IOException;
+
+		public abstract @Null String readString () throws IOException;
 
 		public @Null String readStringRef () throws IOException {
 			int index = readInt(true);
 			return index == 0 ? null : strings[index - 1];
 		}
 
-		public String readString () throws IOException {
+		/** Returns the unread bytes. The input must not be used afterward. */
+		public abstract ByteBuffer remaining () throws IOException;
+
+		public void close () throws IOException {
+		}
+	}
+
+	static class StreamInput extends SkeletonInput {
+		private final DataInput input;
+		private char[] chars = new char[32];
+
+		public StreamInput (InputStream input) {
+			this.input = new DataInput(input);
+		}
+
+		public StreamInput (FileHandle file) {
+			this(file.read(512));
+		}
+
+		public int read () throws IOException {
+			return input.read();
+		}
+
+		public byte readByte () throws IOException {
+			return input.readByte();
+		}
+
+		public boolean readBoolean () throws IOException {
+			return input.readBoolean();
+		}
+
+		public short readShort () throws IOException {
+			return input.readShort();
+		}
+
+		public int readInt () throws IOException {
+			return input.readInt();
+		}
+
+		public int readInt (boolean optimizePositive) throws IOException {
+			return input.readInt(optimizePositive);
+		}
+
+		public long readLong () throws IOException {
+			return input.readLong();
+		}
+
+		public float readFloat () throws IOException {
+			return input.readFloat();
+		}
+
+		public @Null String readString () throws IOException {
 			int byteCount = readInt(true);
 			switch (byteCount) {
 			case 0:
@@ -1106,5 +1434,174 @@ public class SkeletonBinary extends SkeletonLoader {
 			}
 			return new String(chars, 0, charCount);
 		}
+
+		public ByteBuffer remaining () throws IOException {
+			return ByteBuffer.wrap(StreamUtils.copyStreamToByteArray(input));
+		}
+
+		public void close () throws IOException {
+			input.close();
+		}
+	}
+
+	/** Decodes directly from a buffer, such as a memory mapped file. */
+	static class BufferInput extends SkeletonInput {
+		private final ByteBuffer buffer;
+		private byte[] bytes = new byte[32];
+		private char[] chars = new char[32];
+
+		public BufferInput (ByteBuffer buffer) {
+			this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		}
+
+		public int position () {
+			return buffer.position();
+		}
+
+		public void skip (int count) throws IOException {
+			ByteBuffer buffer = this.buffer;
+			if (count < 0 || count > buffer.remaining()) throw new EOFException();
+			buffer.position(buffer.position() + count);
+		}
+
+		public ByteBuffer remaining () {
+			return buffer.slice();
+		}
+
+		public int read () {
+			ByteBuffer buffer = this.buffer;
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		public byte readByte () throws IOException {
+			try {
+				return buffer.get();
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public boolean readBoolean () throws IOException {
+			return readByte() != 0;
+		}
+
+		public short readShort () throws IOException {
+			try {
+				return buffer.getShort();
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public int readInt () throws IOException {
+			try {
+				return buffer.getInt();
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public int readInt (boolean optimizePositive) throws IOException {
+			try {
+				ByteBuffer buffer = this.buffer;
+				int b = buffer.get();
+				int result = b & 0x7F;
+				if ((b & 0x80) != 0) {
+					b = buffer.get();
+					result |= (b & 0x7F) << 7;
+					if ((b & 0x80) != 0) {
+						b = buffer.get();
+						result |= (b & 0x7F) << 14;
+						if ((b & 0x80) != 0) {
+							b = buffer.get();
+							result |= (b & 0x7F) << 21;
+							if ((b & 0x80) != 0) {
+								b = buffer.get();
+								result |= (b & 0x7F) << 28;
+							}
+						}
+					}
+				}
+				return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public long readLong () throws IOException {
+			try {
+				return buffer.getLong();
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public float readFloat () throws IOException {
+			try {
+				return buffer.getFloat();
+			} catch (BufferUnderflowException ex) {
+				throw new EOFException();
+			}
+		}
+
+		public @Null String readString () throws IOException {
+			int byteCount = readInt(true);
+			switch (byteCount) {
+			case 0:
+				return null;
+			case 1:
+				return "";
+			}
+			byteCount--;
+			ByteBuffer buffer = this.buffer;
+			if (buffer.remaining() < byteCount) throw new EOFException();
+
+			// Most strings are ASCII, which can be used without decoding.
+			byte[] bytes;
+			int offset;
+			if (buffer.hasArray()) {
+				bytes = buffer.array();
+				offset = buffer.arrayOffset() + buffer.position();
+				buffer.position(buffer.position() + byteCount);
+			} else {
+				if (this.bytes.length < byteCount) this.bytes = new byte[Math.max(byteCount, this.bytes.length << 1)];
+				bytes = this.bytes;
+				offset = 0;
+				buffer.get(bytes, 0, byteCount);
+			}
+			int end = offset + byteCount;
+			for (int i = offset; i < end; i++)
+				if (bytes[i] < 0) return decode(bytes, i, end, i - offset);
+			return new String(bytes, offset, byteCount, StandardCharsets.ISO_8859_1);
+		}
+
+		/** Decodes the remaining bytes of a string that is not ASCII, after <code>ascii</code> ASCII characters. */
+		private String decode (byte[] bytes, int i, int end, int ascii) throws IOException {
+			if (chars.length < end - i + ascii) chars = new char[Math.max(end - i + ascii, chars.length << 1)];
+			char[] chars = this.chars;
+			for (int ii = 0, start = i - ascii; ii < ascii; ii++)
+				chars[ii] = (char)bytes[start + ii];
+			int charCount = ascii;
+			while (i < end) {
+				int b = bytes[i] & 0xFF;
+				switch (b >> 4) {
+				case 12:
+				case 13:
+					if (i + 1 >= end) throw new EOFException();
+					chars[charCount++] = (char)((b & 0x1F) << 6 | bytes[i + 1] & 0x3F);
+					i += 2;
+					break;
+				case 14:
+					if (i + 2 >= end) throw new EOFException();
+					chars[charCount++] = (char)((b & 0x0F) << 12 | (bytes[i + 1] & 0x3F) << 6 | bytes[i + 2] & 0x3F);
+					i += 3;
+					break;
+				default:
+					chars[charCount++] = (char)b;
+					i++;
+				}
+			}
+			return new String(chars, 0, charCount);
+		}
 	}
 }
@@ -32,6 +32,10 @@ package com.esotericsoftware.spine;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Null;
 
+import com.esotericsoftware.spine.Animation.AttachmentTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Skeleton.UpdateOrder;
+
 /** Stores the setup pose and all of the stateless data for a skeleton.
  * <p>
  * See <a href="http://esotericsoftware.com/spine-runtime-architecture#Data-objects">Data objects</a> in the Spine Runtimes
@@ -49,6 +53,8 @@ public class SkeletonData {
 	final Array<PathConstraintData> pathConstraints = new Array();
 	float x, y, width, height;
 	@Null String version, hash;
+	volatile @Null UpdateOrder[] updateOrders; // Replaced, never modified.
+	int attachmentTimelineCount;
 
 	// Nonessential.
 	float fps = 30;
@@ -141,11 +147,27 @@ public class SkeletonData {
 
 	// --- Animations.
 
-	/** The skeleton's animations. */
+	/** The skeleton's animations. Animations read with {@link SkeletonBinary#setLazyAnimations(boolean)} may not be
+	 * {@link Animation#isLoaded() loaded}. */
 	public Array<Animation> getAnimations () {
 		return animations;
 	}
 
+	/** Gives each attachment timeline of a read animation the next index, so skeletons can store the attachments found for it in
+	 * an array. See {@link Skeleton#getTimelineAttachment(AttachmentTimeline, int)}. */
+	void indexAttachmentTimelines (Animation animation) {
+		attachmentTimelineCount = indexAttachmentTimelines(animation.timelines, attachmentTimelineCount);
+	}
+
+	/** @param index The index for the first attachment timeline.
+	 * @return The index after the last attachment timeline's. */
+	static int indexAttachmentTimelines (Array<Timeline> timelines, int index) {
+		Object[] items = timelines.items;
+		for (int i = 0, n = timelines.size; i < n; i++)
+			if (items[i] instanceof AttachmentTimeline) ((AttachmentTimeline)items[i]).index = index++;
+		return index;
+	}
+
 	/** Finds an animation by comparing each animation's name. It is more efficient to cache the results of this method than to
 	 * call it multiple times. */
 	public @Null Animation findAnimation (String animationName) {
@@ -153,11 +175,79 @@ public class SkeletonData {
 		Object[] animations = this.animations.items;
 		for (int i = 0, n = this.animations.size; i < n; i++) {
 			Animation animation = (Animation)animations[i];
-			if (animation.name.equals(animationName)) return animation;
+			if (animation.name.equals(animationName)) {
+				animation.load();
+				return animation;
+			}
 		}
 		return null;
 	}
 
+	/** Decodes the timelines of the specified animations, if they have not yet been decoded, so the first use of them does not
+	 * need to. See {@link SkeletonBinary#setLazyAnimations(boolean)}.
+	 * @throws IllegalArgumentException if an animation is not found. */
+	public void preload (String... animationNames) {
+		if (animationNames == null) throw new IllegalArgumentException("animationNames cannot be null.");
+		for (String animationName : animationNames)
+			if (findAnimation(animationName) == null) throw new IllegalArgumentException("Animation not found: " + animationName);
+	}
+
+	/** Bakes animations in order, skipping those that would make the memory used by all the animations' bakes exceed
+	 * <code>maxBytes</code>. Any previous bakes are replaced.
+	 * <p>
+	 * Animations whose timelines have not yet been decoded are not baked, so baking does not undo
+	 * {@link SkeletonBinary#setLazyAnimations(boolean)}. Use {@link #preload(String...)} first to bake those animations.
+	 * <p>
+	 * See {@link Animation#bake(SkeletonData, float, int)}.
+	 * @return The number of bytes used by all the animations' bakes. */
+	public long bakeAnimations (float sampleRate, int maxBytes) {
+		Object[] animations = this.animations.items;
+		int n = this.animations.size;
+		for (int i = 0; i < n; i++)
+			((Animation)animations[i]).clearBake();
+		long memory = 0;
+		for (int i = 0; i < n; i++) {
+			Animation animation = (Animation)animations[i];
+			if (!animation.isLoaded()) continue;
+			if (animation.bake(this, sampleRate, (int)(maxBytes - memory))) memory += animation.bake.getMemory();
+		}
+		return memory;
+	}
+
+	/** Returns the number of bytes used by the animations' bakes.
+	 * <p>
+	 * See {@link Animation#getBake()}. */
+	public long getBakedMemory () {
+		long memory = 0;
+		Object[] animations = this.animations.items;
+		for (int i = 0, n = this.animations.size; i < n; i++) {
+			AnimationBake bake = ((Animation)animations[i]).bake;
+			if (bake != null) memory += bake.getMemory();
+		}
+		return memory;
+	}
+
+	/** Compacts the Bezier curves and deform vertices of all animations, for when memory is more important than the time to
+	 * apply animations. Timelines whose curves would change by more than <code>maxError</code> are not compacted.
+	 * @return The number of bytes saved.
+	 * @see Animation#compact(float) */
+	public long compactAnimations (float maxError) {
+		long saved = 0;
+		Object[] animations = this.animations.items;
+		for (int i = 0, n = this.animations.size; i < n; i++)
+			saved += ((Animation)animations[i]).compact(maxError);
+		return saved;
+	}
+
+	/** The largest {@link Animation#getCompactError()} of all animations. */
+	public float getCompactError () {
+		float error = 0;
+		Object[] animations = this.animations.items;
+		for (int i = 0, n = this.animations.size; i < n; i++)
+			error = Math.max(error, ((Animation)animations[i]).getCompactError());
+		return error;
+	}
+
 	// --- IK constraints
 
 	/** The skeleton's IK constraints. */
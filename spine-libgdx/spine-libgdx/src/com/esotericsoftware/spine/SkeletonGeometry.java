@@ -0,0 +1,90 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+import com.esotericsoftware.spine.SkeletonRenderer.DrawTarget;
+import com.esotericsoftware.spine.utils.TwoColorPolygonBatch;
+
+/** Stores the vertices and triangles to draw a skeleton with a {@link TwoColorPolygonBatch}, and the scratch state needed to
+ * compute them.
+ * <p>
+ * {@link SkeletonRenderer#build(SkeletonGeometry, Skeleton)} fills the geometry and can be called for different skeletons on
+ * multiple threads at the same time, as long as each thread uses its own geometry.
+ * {@link SkeletonRenderer#draw(TwoColorPolygonBatch, SkeletonGeometry)} submits the geometry to the batch, on the thread that
+ * owns the batch. */
+public class SkeletonGeometry extends DrawTarget {
+	/** Vertices for all draws: x, y, light color, dark color, u, v. */
+	final FloatArray vertices = new FloatArray(256);
+	/** Triangles for all draws, each draw's indices relative to its first vertex. */
+	final ShortArray triangles = new ShortArray(256);
+	final Array<Texture> textures = new Array();
+	final Array<BlendMode> blendModes = new Array();
+	/** Per draw: vertices offset, vertices count, triangles offset, triangles count. */
+	final IntArray draws = new IntArray();
+
+	/** Removes all draws. */
+	public void clear () {
+		vertices.clear();
+		triangles.clear();
+		textures.clear();
+		blendModes.clear();
+		draws.clear();
+	}
+
+	/** The number of times the batch is drawn to. */
+	public int getDrawCount () {
+		return textures.size;
+	}
+
+	/** The vertices for all draws: x, y, light color, dark color, u, v. */
+	public FloatArray getVertices () {
+		return vertices;
+	}
+
+	/** The triangles for all draws. The indices of each draw are relative to its first vertex. */
+	public ShortArray getTriangles () {
+		return triangles;
+	}
+
+	void draw (Texture texture, BlendMode blendMode, float[] vertices, int verticesCount, short[] triangles,
+		int trianglesCount) {
+		textures.add(texture);
+		blendModes.add(blendMode);
+		draws.add(this.vertices.size, verticesCount, this.triangles.size, trianglesCount);
+		this.vertices.addAll(vertices, 0, verticesCount);
+		this.triangles.addAll(triangles, 0, trianglesCount);
+	}
+}
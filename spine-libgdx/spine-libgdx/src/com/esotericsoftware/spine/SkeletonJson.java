@@ -31,7 +31,12 @@ package com.esotericsoftware.spine;
 
 import static com.esotericsoftware.spine.utils.SpineUtils.*;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
@@ -41,7 +46,11 @@ import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.SerializationException;
+import com.badlogic.gdx.utils.StreamUtils;
 
 import com.esotericsoftware.spine.Animation.AlphaTimeline;
 import com.esotericsoftware.spine.Animation.AttachmentTimeline;
@@ -102,22 +111,67 @@ public class SkeletonJson extends SkeletonLoader {
 		super(atlas);
 	}
 
+	/** Reads skeleton data without parsing the whole file into a {@link JsonValue} tree. See
+	 * {@link #readSkeletonData(char[], int, int)}. */
 	public SkeletonData readSkeletonData (FileHandle file) {
 		if (file == null) throw new IllegalArgumentException("file cannot be null.");
-		SkeletonData skeletonData = readSkeletonData(new JsonReader().parse(file));
+		SkeletonData skeletonData;
+		try {
+			skeletonData = readSkeletonData(file.reader("UTF-8"));
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading skeleton file: " + file, ex);
+		}
 		skeletonData.name = file.nameWithoutExtension();
 		return skeletonData;
 	}
 
+	/** Reads skeleton data without parsing the whole input into a {@link JsonValue} tree. See
+	 * {@link #readSkeletonData(char[], int, int)}. */
 	public SkeletonData readSkeletonData (InputStream input) {
 		if (input == null) throw new IllegalArgumentException("dataInput cannot be null.");
-		return readSkeletonData(new JsonReader().parse(input));
+		try {
+			return readSkeletonData(new InputStreamReader(input, "UTF-8"));
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading skeleton file.", ex);
+		}
+	}
+
+	private SkeletonData readSkeletonData (Reader reader) throws IOException {
+		char[] data = new char[1024];
+		int offset = 0;
+		try {
+			while (true) {
+				int length = reader.read(data, offset, data.length - offset);
+				if (length == -1) break;
+				if (length == 0) {
+					char[] newData = new char[data.length * 2];
+					System.arraycopy(data, 0, newData, 0, data.length);
+					data = newData;
+				} else
+					offset += length;
+			}
+		} finally {
+			StreamUtils.closeQuietly(reader);
+		}
+		return readSkeletonData(data, 0, offset);
+	}
+
+	/** Reads skeleton data from JSON characters. Only the top level values are located before reading, then each skin and
+	 * animation is parsed into a {@link JsonValue} tree, read, and discarded before the next. This uses much less memory than
+	 * {@link #readSkeletonData(JsonValue)} with a tree for the whole file, since skins and animations are usually most of it. */
+	public SkeletonData readSkeletonData (char[] data, int offset, int length) {
+		if (data == null) throw new IllegalArgumentException("data cannot be null.");
+		return readSkeletonData(new JsonSections(data, offset, offset + length));
 	}
 
 	public SkeletonData readSkeletonData (JsonValue root) {
 		if (root == null) throw new IllegalArgumentException("root cannot be null.");
+		return readSkeletonData(new JsonSections(root));
+	}
 
+	private SkeletonData readSkeletonData (final JsonSections sections) {
 		float scale = this.scale;
+		JsonValue root = sections.root;
 
 		// Skeleton.
 		SkeletonData skeletonData = new SkeletonData();
@@ -273,7 +327,7 @@ public class SkeletonJson extends SkeletonLoader {
 		}
 
 		// Skins.
-		for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next) {
+		for (JsonValue skinMap = sections.first("skins"); skinMap != null; skinMap = sections.next(skinMap)) {
 			Skin skin = new Skin(skinMap.getString("name"));
 			for (JsonValue entry = skinMap.getChild("bones"); entry != null; entry = entry.next) {
 				BoneData bone = skeletonData.findBone(entry.asString());
@@ -342,11 +396,35 @@ public class SkeletonJson extends SkeletonLoader {
 		}
 
 		// Animations.
-		for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next) {
-			try {
-				readAnimation(animationMap, animationMap.name, skeletonData);
-			} catch (Throwable ex) {
-				throw new SerializationException("Error reading animation: " + animationMap.name, ex);
+		if (animationExecutor != null) {
+			Array<JsonChild> children = sections.children("animations");
+			ArrayList<Callable<Animation>> tasks = new ArrayList(children.size);
+			for (final JsonChild child : children) {
+				tasks.add(new Callable<Animation>() {
+					public Animation call () {
+						JsonValue animationMap = sections.parse(child);
+						try {
+							return readAnimation(animationMap, animationMap.name, skeletonData);
+						} catch (Throwable ex) {
+							throw new SerializationException("Error reading animation: " + animationMap.name, ex);
+						}
+					}
+				});
+			}
+			Object[] animations = skeletonData.animations.setSize(tasks.size());
+			readAnimations(tasks, animations);
+			for (int i = 0, n = tasks.size(); i < n; i++)
+				skeletonData.indexAttachmentTimelines((Animation)animations[i]);
+		} else {
+			for (JsonValue animationMap = sections.first("animations"); animationMap != null;
+				animationMap = sections.next(animationMap)) {
+				try {
+					Animation animation = readAnimation(animationMap, animationMap.name, skeletonData);
+					skeletonData.indexAttachmentTimelines(animation);
+					skeletonData.animations.add(animation);
+				} catch (Throwable ex) {
+					throw new SerializationException("Error reading animation: " + animationMap.name, ex);
+				}
 			}
 		}
 
@@ -499,7 +577,7 @@ public class SkeletonJson extends SkeletonLoader {
 		attachment.setVertices(weights.toArray());
 	}
 
-	private void readAnimation (JsonValue map, String name, SkeletonData skeletonData) {
+	private Animation readAnimation (JsonValue map, String name, SkeletonData skeletonData) {
 		float scale = this.scale;
 		Array<Timeline> timelines = new Array();
 
@@ -977,7 +1055,7 @@ public class SkeletonJson extends SkeletonLoader {
 		Object[] items = timelines.items;
 		for (int i = 0, n = timelines.size; i < n; i++)
 			duration = Math.max(duration, ((Timeline)items[i]).getDuration());
-		skeletonData.animations.add(new Animation(name, timelines, duration));
+		return new Animation(name, timelines, duration);
 	}
 
 	private Timeline readTimeline (JsonValue keyMap, CurveTimeline1 timeline, float defaultValue, float scale) {
@@ -1047,6 +1125,224 @@ public class SkeletonJson extends SkeletonLoader {
 		timeline.setBezier(bezier, frame, value, time1, value1, cx1, cy1, cx2, cy2, time2, value2);
 	}
 
+	/** Provides the top level values of skeleton JSON. Skins and animations can be parsed one child at a time, without building a
+	 * {@link JsonValue} tree for the whole file. */
+	static class JsonSections {
+		final JsonValue root;
+		final @Null char[] data;
+		final ObjectIntMap<String> starts = new ObjectIntMap();
+		final JsonReader reader = new JsonReader();
+		int cursor, end;
+		boolean object;
+
+		/** Uses an existing tree. */
+		JsonSections (JsonValue root) {
+			this.root = root;
+			data = null;
+		}
+
+		/** Locates each top level value, then parses all but the skins and animations.
+		 * @param end The index after the last character. */
+		JsonSections (char[] data, int start, int end) {
+			this.data = data;
+			this.end = end;
+
+			cursor = start;
+			if (token() != '{') throw new SerializationException("Expected an object.");
+			cursor++;
+			while (token() != '}') {
+				String name = name();
+				starts.put(name, cursor);
+				skipValue();
+				if (token() == ',') cursor++;
+			}
+
+			root = new JsonValue(ValueType.object);
+			for (ObjectIntMap.Entry<String> entry : starts) {
+				if (entry.key.equals("skins") || entry.key.equals("animations")) continue;
+				cursor = entry.value;
+				token();
+				int valueStart = cursor;
+				skipValue();
+				root.addChild(entry.key, parse(valueStart, cursor));
+			}
+		}
+
+		/** Returns the first child of the top level value, or null if it doesn't exist or has no children. */
+		@Null JsonValue first (String name) {
+			if (data == null) return root.getChild(name);
+			return seek(name) ? next(null) : null;
+		}
+
+		/** Moves the cursor to the first child of the top level value.
+		 * @return False if the value doesn't exist. */
+		private boolean seek (String name) {
+			int start = starts.get(name, -1);
+			if (start == -1) return false;
+			cursor = start;
+			char c = token();
+			if (c != '{' && c != '[') throw new SerializationException("Expected an object or array: " + name);
+			object = c == '{';
+			cursor++;
+			return true;
+		}
+
+		/** Returns the child after the specified child, which the previous call to {@link #first(String)} or
+		 * {@link #next(JsonValue)} returned. */
+		@Null JsonValue next (@Null JsonValue child) {
+			if (data == null) return child.next;
+			JsonChild next = nextChild();
+			if (next == null) return null;
+			JsonValue value = parse(next.start, next.end);
+			value.setName(next.name);
+			return value;
+		}
+
+		/** Returns the children of the top level value. When reading characters, the children are located but not parsed.
+		 * @see #parse(JsonChild) */
+		Array<JsonChild> children (String name) {
+			Array<JsonChild> children = new Array();
+			if (data == null) {
+				for (JsonValue value = root.getChild(name); value != null; value = value.next) {
+					JsonChild child = new JsonChild();
+					child.value = value;
+					children.add(child);
+				}
+			} else if (seek(name)) {
+				for (JsonChild child = nextChild(); child != null; child = nextChild())
+					children.add(child);
+			}
+			return children;
+		}
+
+		/** Returns the child's value, parsing it if necessary. This may be called concurrently. */
+		JsonValue parse (JsonChild child) {
+			if (child.value != null) return child.value;
+			JsonValue value = new JsonReader().parse(data, child.start, child.end); // The last parameter is the end index.
+			value.setName(child.name);
+			return value;
+		}
+
+		private @Null JsonChild nextChild () {
+			char c = token();
+			if (c == ',') c = token(++cursor);
+			if (c == '}' || c == ']') return null;
+			JsonChild child = new JsonChild();
+			child.name = object ? name() : null;
+			token();
+			child.start = cursor;
+			skipValue();
+			child.end = cursor;
+			return child;
+		}
+
+		private JsonValue parse (int start, int end) {
+			return reader.parse(data, start, end); // The last parameter is the end index, not the length.
+		}
+
+		/** Skips whitespace and comments, then returns the next character. */
+		private char token () {
+			return token(cursor);
+		}
+
+		private char token (int i) {
+			char[] data = this.data;
+			for (int end = this.end; i < end; i++) {
+				char c = data[i];
+				switch (c) {
+				case ' ':
+				case '\t':
+				case '\r':
+				case '\n':
+					continue;
+				case '/':
+					if (i + 1 < end && data[i + 1] == '/') {
+						while (i < end && data[i] != '\n')
+							i++;
+						continue;
+					}
+					if (i + 1 < end && data[i + 1] == '*') {
+						for (i += 3; i < end && (data[i - 1] != '*' || data[i] != '/'); i++) {
+						}
+						continue;
+					}
+				}
+				cursor = i;
+				return c;
+			}
+			throw new SerializationException("Unexpected end of JSON.");
+		}
+
+		/** Reads a quoted or unquoted name and the following colon. */
+		private String name () {
+			char[] data = this.data;
+			String name;
+			if (token() == '"') {
+				int start = ++cursor;
+				boolean escaped = false;
+				for (; data[cursor] != '"'; cursor++) {
+					if (data[cursor] == '\\') {
+						escaped = true;
+						cursor++;
+					}
+				}
+				name = escaped ? parse(start - 1, cursor + 1).asString() : new String(data, start, cursor - start);
+				cursor++;
+			} else {
+				int start = cursor;
+				while (data[cursor] != ':' && !Character.isWhitespace(data[cursor]))
+					cursor++;
+				name = new String(data, start, cursor - start);
+			}
+			if (token() != ':') throw new SerializationException("Expected ':' after: " + name);
+			cursor++;
+			return name;
+		}
+
+		/** Advances past the value at the cursor, without parsing it. */
+		private void skipValue () {
+			char[] data = this.data;
+			int end = this.end, depth = 0;
+			token();
+			for (; cursor < end; cursor++) {
+				switch (data[cursor]) {
+				case '"':
+					for (cursor++; data[cursor] != '"'; cursor++)
+						if (data[cursor] == '\\') cursor++;
+					break;
+				case '{':
+				case '[':
+					depth++;
+					break;
+				case '}':
+				case ']':
+					if (depth == 0) return;
+					if (--depth == 0) {
+						cursor++;
+						return;
+					}
+					break;
+				case ',':
+					if (depth == 0) return;
+					break;
+				case '/':
+					if (depth == 0) return;
+					if (cursor + 1 < end && (data[cursor + 1] == '/' || data[cursor + 1] == '*')) {
+						token();
+						cursor--;
+					}
+				}
+			}
+		}
+	}
+
+	/** A child of a top level value, which is either located in the characters or already parsed. */
+	static class JsonChild {
+		@Null String name;
+		int start, end;
+		@Null JsonValue value;
+	}
+
 	static class LinkedMesh {
 		String parent, skin;
 		int slotIndex;
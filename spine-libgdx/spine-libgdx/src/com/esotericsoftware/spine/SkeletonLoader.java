@@ -2,10 +2,18 @@
 package com.esotericsoftware.spine;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.SerializationException;
 
 import com.esotericsoftware.spine.SkeletonJson.LinkedMesh;
 import com.esotericsoftware.spine.attachments.AtlasAttachmentLoader;
@@ -18,6 +26,7 @@ import com.esotericsoftware.spine.attachments.AttachmentLoader;
 abstract public class SkeletonLoader {
 	final AttachmentLoader attachmentLoader;
 	float scale = 1;
+	@Null ExecutorService animationExecutor;
 	final Array<LinkedMesh> linkedMeshes = new Array();
 
 	/** Creates a skeleton loader that loads attachments using an {@link AtlasAttachmentLoader} with the specified atlas. */
@@ -47,6 +56,36 @@ abstract public class SkeletonLoader {
 		this.scale = scale;
 	}
 
+	/** The executor used to decode animations in parallel, or null. See {@link #setAnimationExecutor(ExecutorService)}. */
+	public @Null ExecutorService getAnimationExecutor () {
+		return animationExecutor;
+	}
+
+	/** When not null, animations are decoded in parallel by the executor, such as a {@link java.util.concurrent.ForkJoinPool},
+	 * after the bones, slots, constraints, skins, and events are read. Reading waits for all animations to be decoded, and they
+	 * are stored in the same order as when decoded sequentially. Default is null. */
+	public void setAnimationExecutor (@Null ExecutorService animationExecutor) {
+		this.animationExecutor = animationExecutor;
+	}
+
+	/** Decodes animations using the {@link #getAnimationExecutor() animation executor}.
+	 * @param animations Receives each task's animation at the task's index. */
+	void readAnimations (ArrayList<Callable<Animation>> tasks, Object[] animations) {
+		List<Future<Animation>> futures;
+		try {
+			futures = animationExecutor.invokeAll(tasks);
+			for (int i = 0, n = tasks.size(); i < n; i++)
+				animations[i] = futures.get(i).get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SerializationException("Interrupted reading animations.", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+			throw new SerializationException("Error reading animations.", cause);
+		}
+	}
+
 	abstract public SkeletonData readSkeletonData (FileHandle file);
 
 	abstract public SkeletonData readSkeletonData (InputStream input);
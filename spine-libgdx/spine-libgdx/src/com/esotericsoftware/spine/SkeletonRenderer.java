@@ -44,15 +44,17 @@ import com.esotericsoftware.spine.attachments.ClippingAttachment;
 import com.esotericsoftware.spine.attachments.MeshAttachment;
 import com.esotericsoftware.spine.attachments.RegionAttachment;
 import com.esotericsoftware.spine.attachments.SkeletonAttachment;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
 import com.esotericsoftware.spine.utils.SkeletonClipping;
 import com.esotericsoftware.spine.utils.TwoColorPolygonBatch;
 
 public class SkeletonRenderer {
 	static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
 
-	private boolean pmaColors, pmaBlendModes;
+	private boolean pmaColors, pmaBlendModes, cacheWorldVertices;
 	private final FloatArray vertices = new FloatArray(32);
 	private final SkeletonClipping clipper = new SkeletonClipping();
+	private final BatchTarget batchTarget = new BatchTarget();
 	private @Null VertexEffect vertexEffect;
 	private final Vector2 temp = new Vector2();
 	private final Vector2 temp2 = new Vector2();
@@ -91,7 +93,7 @@ public class SkeletonRenderer {
 		Object[] drawOrder = skeleton.drawOrder.items;
 		for (int i = 0, n = skeleton.drawOrder.size; i < n; i++) {
 			Slot slot = (Slot)drawOrder[i];
-			if (!slot.bone.active) {
+			if (!slot.active) {
 				clipper.clipEnd(slot);
 				continue;
 			}
@@ -172,7 +174,7 @@ public class SkeletonRenderer {
 		Object[] drawOrder = skeleton.drawOrder.items;
 		for (int i = 0, n = skeleton.drawOrder.size; i < n; i++) {
 			Slot slot = (Slot)drawOrder[i];
-			if (!slot.bone.active) {
+			if (!slot.active) {
 				clipper.clipEnd(slot);
 				continue;
 			}
@@ -194,8 +196,11 @@ public class SkeletonRenderer {
 				int count = mesh.getWorldVerticesLength();
 				verticesLength = (count >> 1) * vertexSize;
 				vertices = this.vertices.setSize(verticesLength);
-				mesh.computeWorldVertices(slot, 0, count, vertices, 0, vertexSize);
-				triangles = mesh.getTriangles();
+				if (cacheWorldVertices)
+					slot.computeWorldVertices(mesh, vertices, 0, vertexSize);
+				else
+					mesh.computeWorldVertices(slot, 0, count, vertices, 0, vertexSize);
+				triangles = mesh.getTriangles(skeleton.lod);
 				texture = mesh.getRegion().getTexture();
 				uvs = mesh.getUVs();
 				color = mesh.getColor();
@@ -281,15 +286,36 @@ public class SkeletonRenderer {
 		if (batch == null) throw new IllegalArgumentException("batch cannot be null.");
 		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
 
-		Vector2 tempPosition = this.temp, tempUV = this.temp2;
-		Color tempLight1 = this.temp3, tempDark1 = this.temp4;
-		Color tempLight2 = this.temp5, tempDark2 = this.temp6;
+		batch.setPremultipliedAlpha(pmaColors);
+		BatchTarget target = batchTarget;
+		target.batch = batch;
+		target.blendMode = null;
+		target.pmaBlendModes = pmaBlendModes;
+		build(target, skeleton);
+		target.batch = null;
+	}
+
+	/** Computes the vertices and triangles to render the specified skeleton, including meshes and two color tinting, and adds them
+	 * to the geometry. Unlike the draw methods, this does not use any state of this renderer other than its settings, so it can be
+	 * called on multiple threads at the same time, as long as each thread uses its own geometry. The {@link #getVertexEffect()},
+	 * if any, must also support this.
+	 * <p>
+	 * See {@link #draw(TwoColorPolygonBatch, SkeletonGeometry)}. */
+	public void build (SkeletonGeometry geometry, Skeleton skeleton) {
+		if (geometry == null) throw new IllegalArgumentException("geometry cannot be null.");
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		build((DrawTarget)geometry, skeleton);
+	}
+
+	private void build (DrawTarget target, Skeleton skeleton) {
+		SkeletonClipping clipper = target.clipper;
+		Vector2 tempPosition = target.tempPosition, tempUV = target.tempUV;
+		Color tempLight1 = target.tempLight1, tempDark1 = target.tempDark1;
+		Color tempLight2 = target.tempLight2, tempDark2 = target.tempDark2;
 		VertexEffect vertexEffect = this.vertexEffect;
 		if (vertexEffect != null) vertexEffect.begin(skeleton);
 
-		boolean pmaColors = this.pmaColors, pmaBlendModes = this.pmaBlendModes;
-		batch.setPremultipliedAlpha(pmaColors);
-		BlendMode blendMode = null;
+		boolean pmaColors = this.pmaColors;
 		int verticesLength = 0;
 		float[] vertices = null, uvs = null;
 		short[] triangles = null;
@@ -298,7 +324,7 @@ public class SkeletonRenderer {
 		Object[] drawOrder = skeleton.drawOrder.items;
 		for (int i = 0, n = skeleton.drawOrder.size; i < n; i++) {
 			Slot slot = (Slot)drawOrder[i];
-			if (!slot.bone.active) {
+			if (!slot.active) {
 				clipper.clipEnd(slot);
 				continue;
 			}
@@ -308,7 +334,7 @@ public class SkeletonRenderer {
 			if (attachment instanceof RegionAttachment) {
 				RegionAttachment region = (RegionAttachment)attachment;
 				verticesLength = vertexSize << 2;
-				vertices = this.vertices.items;
+				vertices = target.scratch.setSize(verticesLength);
 				region.computeWorldVertices(slot.getBone(), vertices, 0, vertexSize);
 				triangles = quadTriangles;
 				texture = region.getRegion().getTexture();
@@ -319,9 +345,12 @@ public class SkeletonRenderer {
 				MeshAttachment mesh = (MeshAttachment)attachment;
 				int count = mesh.getWorldVerticesLength();
 				verticesLength = (count >> 1) * vertexSize;
-				vertices = this.vertices.setSize(verticesLength);
-				mesh.computeWorldVertices(slot, 0, count, vertices, 0, vertexSize);
-				triangles = mesh.getTriangles();
+				vertices = target.scratch.setSize(verticesLength);
+				if (cacheWorldVertices)
+					slot.computeWorldVertices(mesh, vertices, 0, vertexSize);
+				else
+					mesh.computeWorldVertices(slot, 0, count, vertices, 0, vertexSize);
+				triangles = mesh.getTriangles(skeleton.lod);
 				texture = mesh.getRegion().getTexture();
 				uvs = mesh.getUVs();
 				color = mesh.getColor();
@@ -333,7 +362,7 @@ public class SkeletonRenderer {
 
 			} else if (attachment instanceof SkeletonAttachment) {
 				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
-				if (attachmentSkeleton != null) draw(batch, attachmentSkeleton);
+				if (attachmentSkeleton != null) build(target, attachmentSkeleton);
 			}
 
 			if (texture != null) {
@@ -341,14 +370,10 @@ public class SkeletonRenderer {
 				float alpha = a * lightColor.a * color.a * 255;
 				float multiplier = pmaColors ? alpha : 255;
 
-				BlendMode slotBlendMode = slot.data.getBlendMode();
-				if (slotBlendMode != blendMode) {
-					if (slotBlendMode == BlendMode.additive && pmaColors) {
-						slotBlendMode = BlendMode.normal;
-						alpha = 0;
-					}
-					blendMode = slotBlendMode;
-					blendMode.apply(batch, pmaBlendModes);
+				BlendMode blendMode = slot.data.getBlendMode();
+				if (blendMode == BlendMode.additive && pmaColors) {
+					blendMode = BlendMode.normal;
+					alpha = 0;
 				}
 
 				float red = r * color.r * multiplier;
@@ -368,8 +393,11 @@ public class SkeletonRenderer {
 					clipper.clipTriangles(vertices, verticesLength, triangles, triangles.length, uvs, light, dark, true);
 					FloatArray clippedVertices = clipper.getClippedVertices();
 					ShortArray clippedTriangles = clipper.getClippedTriangles();
-					if (vertexEffect != null) applyVertexEffect(clippedVertices.items, clippedVertices.size, 6, light, dark);
-					batch.drawTwoColor(texture, clippedVertices.items, 0, clippedVertices.size, clippedTriangles.items, 0,
+					if (vertexEffect != null) {
+						applyVertexEffect(vertexEffect, clippedVertices.items, clippedVertices.size, 6, light, dark, tempPosition,
+							tempUV, tempLight1, tempDark1, tempLight2, tempDark2);
+					}
+					target.draw(texture, blendMode, clippedVertices.items, clippedVertices.size, clippedTriangles.items,
 						clippedTriangles.size);
 				} else {
 					if (vertexEffect != null) {
@@ -398,7 +426,7 @@ public class SkeletonRenderer {
 							vertices[v + 3] = uvs[u + 1];
 						}
 					}
-					batch.drawTwoColor(texture, vertices, 0, verticesLength, triangles, 0, triangles.length);
+					target.draw(texture, blendMode, vertices, verticesLength, triangles, triangles.length);
 				}
 			}
 
@@ -408,11 +436,38 @@ public class SkeletonRenderer {
 		if (vertexEffect != null) vertexEffect.end();
 	}
 
+	/** Renders the geometry computed by {@link #build(SkeletonGeometry, Skeleton)}. The geometry is not cleared.
+	 * <p>
+	 * This method may change the batch's {@link Batch#setBlendFunctionSeparate(int, int, int, int) blending function}. The
+	 * previous blend function is not restored, since that could result in unnecessary flushes, depending on what is rendered
+	 * next. */
+	public void draw (TwoColorPolygonBatch batch, SkeletonGeometry geometry) {
+		if (batch == null) throw new IllegalArgumentException("batch cannot be null.");
+		if (geometry == null) throw new IllegalArgumentException("geometry cannot be null.");
+
+		boolean pmaBlendModes = this.pmaBlendModes;
+		batch.setPremultipliedAlpha(pmaColors);
+		BlendMode blendMode = null;
+		float[] vertices = geometry.vertices.items;
+		short[] triangles = geometry.triangles.items;
+		Object[] textures = geometry.textures.items, blendModes = geometry.blendModes.items;
+		int[] draws = geometry.draws.items;
+		for (int i = 0, d = 0, n = geometry.textures.size; i < n; i++, d += 4) {
+			BlendMode drawBlendMode = (BlendMode)blendModes[i];
+			if (drawBlendMode != blendMode) {
+				blendMode = drawBlendMode;
+				blendMode.apply(batch, pmaBlendModes);
+			}
+			batch.drawTwoColor((Texture)textures[i], vertices, draws[d], draws[d + 1], triangles, draws[d + 2], draws[d + 3]);
+		}
+	}
+
 	private void applyVertexEffect (float[] vertices, int verticesLength, int stride, float light, float dark) {
-		Vector2 tempPosition = this.temp, tempUV = this.temp2;
-		Color tempLight1 = this.temp3, tempDark1 = this.temp4;
-		Color tempLight2 = this.temp5, tempDark2 = this.temp6;
-		VertexEffect vertexEffect = this.vertexEffect;
+		applyVertexEffect(vertexEffect, vertices, verticesLength, stride, light, dark, temp, temp2, temp3, temp4, temp5, temp6);
+	}
+
+	static private void applyVertexEffect (VertexEffect vertexEffect, float[] vertices, int verticesLength, int stride, float light,
+		float dark, Vector2 tempPosition, Vector2 tempUV, Color tempLight1, Color tempDark1, Color tempLight2, Color tempDark2) {
 		tempLight1.set(NumberUtils.floatToIntColor(light));
 		tempDark1.set(NumberUtils.floatToIntColor(dark));
 		if (stride == 5) {
@@ -475,6 +530,18 @@ public class SkeletonRenderer {
 		pmaBlendModes = pmaColorsAndBlendModes;
 	}
 
+	public boolean getCacheWorldVertices () {
+		return cacheWorldVertices;
+	}
+
+	/** If true, mesh world vertices are computed using {@link Slot#computeWorldVertices(VertexAttachment, float[], int, int)},
+	 * which reuses them when the bones and deform affecting a mesh have not changed. Application code that modifies a bone's world
+	 * transform must call {@link Bone#updateAppliedTransform()} and code that modifies {@link Slot#getDeform()} must call
+	 * {@link Slot#deformChanged()}. Default is false. */
+	public void setCacheWorldVertices (boolean cacheWorldVertices) {
+		this.cacheWorldVertices = cacheWorldVertices;
+	}
+
 	public @Null VertexEffect getVertexEffect () {
 		return vertexEffect;
 	}
@@ -491,4 +558,32 @@ public class SkeletonRenderer {
 
 		public void end ();
 	}
+
+	/** Receives the draws computed by {@link SkeletonRenderer#build(SkeletonGeometry, Skeleton)}, and has the scratch state used
+	 * to compute them. */
+	static abstract class DrawTarget {
+		final FloatArray scratch = new FloatArray(32);
+		final SkeletonClipping clipper = new SkeletonClipping();
+		final Vector2 tempPosition = new Vector2(), tempUV = new Vector2();
+		final Color tempLight1 = new Color(), tempDark1 = new Color(), tempLight2 = new Color(), tempDark2 = new Color();
+
+		abstract void draw (Texture texture, BlendMode blendMode, float[] vertices, int verticesCount, short[] triangles,
+			int trianglesCount);
+	}
+
+	/** Draws to a batch as the draws are computed, used by {@link SkeletonRenderer#draw(TwoColorPolygonBatch, Skeleton)}. */
+	static class BatchTarget extends DrawTarget {
+		@Null TwoColorPolygonBatch batch;
+		@Null BlendMode blendMode;
+		boolean pmaBlendModes;
+
+		void draw (Texture texture, BlendMode blendMode, float[] vertices, int verticesCount, short[] triangles,
+			int trianglesCount) {
+			if (blendMode != this.blendMode) {
+				this.blendMode = blendMode;
+				blendMode.apply(batch, pmaBlendModes);
+			}
+			batch.drawTwoColor(texture, vertices, 0, verticesCount, triangles, 0, trianglesCount);
+		}
+	}
 }
@@ -45,6 +45,7 @@ public class Skin {
 	final OrderedSet<SkinEntry> attachments = new OrderedSet();
 	final Array<BoneData> bones = new Array(0);
 	final Array<ConstraintData> constraints = new Array(0);
+	int version; // Incremented when attachments are added, replaced, or removed.
 	private final SkinEntry lookup = new SkinEntry(0, "", null);
 
 	public Skin (String name) {
@@ -58,6 +59,7 @@ public class Skin {
 		if (attachment == null) throw new IllegalArgumentException("attachment cannot be null.");
 		SkinEntry entry = new SkinEntry(slotIndex, name, attachment);
 		if (!attachments.add(entry)) attachments.get(entry).attachment = attachment;
+		version++;
 	}
 
 	/** Adds all attachments, bones, and constraints from the specified skin to this skin. */
@@ -96,6 +98,12 @@ public class Skin {
 	/** Returns the attachment for the specified slot index and name, or null. */
 	public @Null Attachment getAttachment (int slotIndex, String name) {
 		lookup.set(slotIndex, name);
+		return getAttachment(lookup);
+	}
+
+	/** Returns the attachment for the slot index and name of the specified key, or null. The skin's own key is not used, so a
+	 * skin shared by skeletons updated on multiple threads can be read by each skeleton using its own key. */
+	@Null Attachment getAttachment (SkinEntry lookup) {
 		SkinEntry entry = attachments.get(lookup);
 		return entry != null ? entry.attachment : null;
 	}
@@ -103,7 +111,7 @@ public class Skin {
 	/** Removes the attachment in the skin for the specified slot index and name, if any. */
 	public void removeAttachment (int slotIndex, String name) {
 		lookup.set(slotIndex, name);
-		attachments.remove(lookup);
+		if (attachments.remove(lookup)) version++;
 	}
 
 	/** Returns all attachments in this skin. */
@@ -124,6 +132,7 @@ public class Skin {
 		attachments.clear(1024);
 		bones.clear();
 		constraints.clear();
+		version++;
 	}
 
 	public Array<BoneData> getBones () {
@@ -150,7 +159,9 @@ public class Skin {
 			int slotIndex = entry.slotIndex;
 			Slot slot = (Slot)slots[slotIndex];
 			if (slot.attachment == entry.attachment) {
-				Attachment attachment = getAttachment(slotIndex, entry.name);
+				SkinEntry lookup = skeleton.attachmentLookup;
+				lookup.set(slotIndex, entry.name);
+				Attachment attachment = getAttachment(lookup);
 				if (attachment != null) slot.setAttachment(attachment);
 			}
 		}
@@ -29,8 +29,11 @@
 
 package com.esotericsoftware.spine;
 
+import static com.esotericsoftware.spine.utils.SpineUtils.*;
+
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Null;
 
 import com.esotericsoftware.spine.Animation.DeformTimeline;
@@ -48,8 +51,16 @@ public class Slot {
 	@Null Attachment attachment;
 	private float attachmentTime;
 	private FloatArray deform = new FloatArray();
+	int deformVersion;
+
+	@Null private VertexAttachment worldAttachment;
+	@Null private float[] worldVertices;
+	@Null private int[] worldBones, worldBoneVersions;
+	@Null private float[] worldDeform;
+	private int worldDeformSize, worldDeformVersion;
 
 	int attachmentState;
+	boolean active;
 
 	public Slot (SlotData data, Bone bone) {
 		if (data == null) throw new IllegalArgumentException("data cannot be null.");
@@ -100,6 +111,12 @@ public class Slot {
 		return darkColor;
 	}
 
+	/** Returns false when the slot's attachment is not drawn because the {@link #getBone() bone} is not
+	 * {@link Bone#isActive() active} or the slot is omitted by the {@link Skeleton#getLod() level of detail}. */
+	public boolean isActive () {
+		return active;
+	}
+
 	/** The current attachment for the slot, or null if the slot has no attachment. */
 	public @Null Attachment getAttachment () {
 		return attachment;
@@ -113,6 +130,7 @@ public class Slot {
 		if (!(attachment instanceof VertexAttachment) || !(this.attachment instanceof VertexAttachment)
 			|| ((VertexAttachment)attachment).getDeformAttachment() != ((VertexAttachment)this.attachment).getDeformAttachment()) {
 			deform.clear();
+			deformVersion++;
 		}
 		this.attachment = attachment;
 		attachmentTime = bone.skeleton.time;
@@ -131,6 +149,8 @@ public class Slot {
 	/** Values to deform the slot's attachment. For an unweighted mesh, the entries are local positions for each vertex. For a
 	 * weighted mesh, the entries are an offset for each vertex which will be added to the mesh's local vertex positions.
 	 * <p>
+	 * If the values are changed other than by a {@link DeformTimeline}, {@link #deformChanged()} must be called.
+	 * <p>
 	 * See {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)} and {@link DeformTimeline}. */
 	public FloatArray getDeform () {
 		return deform;
@@ -139,6 +159,93 @@ public class Slot {
 	public void setDeform (FloatArray deform) {
 		if (deform == null) throw new IllegalArgumentException("deform cannot be null.");
 		this.deform = deform;
+		deformVersion++;
+	}
+
+	/** Indicates the {@link #getDeform()} values were changed, so world vertices cached by
+	 * {@link #computeWorldVertices(VertexAttachment, float[], int, int)} are computed again. */
+	public void deformChanged () {
+		deformVersion++;
+	}
+
+	/** Computes all the world vertices for the attachment, the same as
+	 * {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)}. The world vertices are kept and reused
+	 * until the attachment, the {@link #getDeform()}, or the world transform of a bone affecting the attachment changes, which is
+	 * checked using {@link Bone#getWorldVersion()}. This makes it cheap to compute world vertices every frame for a slot that is
+	 * not moving.
+	 * <p>
+	 * The attachment's vertices must not be changed after they were cached.
+	 * @param attachment Usually the slot's {@link #getAttachment()}.
+	 * @param worldVertices The output world vertices. Must have a length >= <code>offset</code> +
+	 *           {@link VertexAttachment#getWorldVerticesLength()} * <code>stride</code> / 2.
+	 * @param offset The <code>worldVertices</code> index to begin writing values.
+	 * @param stride The number of <code>worldVertices</code> entries between the value pairs written. */
+	public void computeWorldVertices (VertexAttachment attachment, float[] worldVertices, int offset, int stride) {
+		int count = attachment.getWorldVerticesLength();
+		float[] cached = this.worldVertices;
+		if (!worldVerticesValid(attachment)) {
+			if (cached == null || cached.length < count) this.worldVertices = cached = new float[count];
+			attachment.computeWorldVertices(this, 0, count, cached, 0, 2);
+		}
+		for (int v = 0, w = offset; v < count; v += 2, w += stride) {
+			worldVertices[w] = cached[v];
+			worldVertices[w + 1] = cached[v + 1];
+		}
+	}
+
+	/** Returns true if the cached world vertices were computed for the attachment and nothing affecting them has changed since.
+	 * Stores the current versions and deform values. */
+	private boolean worldVerticesValid (VertexAttachment attachment) {
+		boolean valid = attachment == worldAttachment;
+		if (!valid) {
+			worldAttachment = attachment;
+			worldBones = attachmentBones(attachment);
+			worldBoneVersions = new int[worldBones.length];
+		}
+		if (deformVersion != worldDeformVersion) {
+			// A deform timeline changes the version each time it is applied, so the values are compared to find if they changed.
+			worldDeformVersion = deformVersion;
+			if (!worldDeformEquals()) {
+				float[] worldDeform = this.worldDeform;
+				int size = deform.size;
+				if (worldDeform == null || worldDeform.length < size) this.worldDeform = worldDeform = new float[size];
+				arraycopy(deform.items, 0, worldDeform, 0, size);
+				worldDeformSize = size;
+				valid = false;
+			}
+		}
+		Object[] bones = bone.skeleton.bones.items;
+		int[] worldBones = this.worldBones, worldBoneVersions = this.worldBoneVersions;
+		for (int i = 0, n = worldBones.length; i < n; i++) {
+			int version = ((Bone)bones[worldBones[i]]).worldVersion;
+			if (version != worldBoneVersions[i]) {
+				worldBoneVersions[i] = version;
+				valid = false;
+			}
+		}
+		return valid;
+	}
+
+	private boolean worldDeformEquals () {
+		int size = deform.size;
+		if (size != worldDeformSize) return false;
+		float[] deform = this.deform.items, worldDeform = this.worldDeform;
+		for (int i = 0; i < size; i++)
+			if (deform[i] != worldDeform[i]) return false;
+		return true;
+	}
+
+	/** Returns the indices of the bones affecting the attachment, without duplicates. */
+	private int[] attachmentBones (VertexAttachment attachment) {
+		int[] bones = attachment.getBones();
+		if (bones == null) return new int[] {bone.data.index};
+		IntArray indices = new IntArray();
+		for (int v = 0, n = bones.length; v < n;) {
+			int end = v + bones[v] + 1;
+			for (v++; v < end; v++)
+				if (!indices.contains(bones[v])) indices.add(bones[v]);
+		}
+		return indices.toArray();
 	}
 
 	/** Sets this slot to the setup pose. */
@@ -41,6 +41,7 @@ public class SlotData {
 	@Null Color darkColor;
 	@Null String attachmentName;
 	BlendMode blendMode;
+	int lod;
 
 	public SlotData (int index, String name, BoneData boneData) {
 		if (index < 0) throw new IllegalArgumentException("index must be >= 0.");
@@ -101,6 +102,19 @@ public class SlotData {
 		this.blendMode = blendMode;
 	}
 
+	/** The level of detail at which this slot is omitted, or 0 if it is never omitted. An omitted slot's attachment is not drawn.
+	 * The slot is omitted when the {@link Skeleton#getLod()} is >= this value.
+	 * <p>
+	 * See {@link Slot#isActive()}. */
+	public int getLod () {
+		return lod;
+	}
+
+	public void setLod (int lod) {
+		if (lod < 0) throw new IllegalArgumentException("lod must be >= 0.");
+		this.lod = lod;
+	}
+
 	public String toString () {
 		return name;
 	}
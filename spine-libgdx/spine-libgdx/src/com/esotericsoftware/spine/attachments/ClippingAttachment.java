@@ -33,10 +33,12 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Null;
 
 import com.esotericsoftware.spine.SlotData;
+import com.esotericsoftware.spine.utils.SkeletonClipping;
 
 /** An attachment with vertices that make up a polygon used for clipping the rendering of other attachments. */
 public class ClippingAttachment extends VertexAttachment {
 	@Null SlotData endSlot;
+	private @Null ConvexPolygons convexPolygons;
 
 	// Nonessential.
 	final Color color = new Color(0.2275f, 0.2275f, 0.8078f, 1); // ce3a3aff
@@ -55,6 +57,22 @@ public class ClippingAttachment extends VertexAttachment {
 		this.endSlot = endSlot;
 	}
 
+	/** Returns the clipping polygon decomposed into convex polygons, computed from the {@link #getVertices()} the first time or
+	 * when they have changed. For each convex polygon, the entries are the offset of the x value for each of its vertices in the
+	 * world vertices. The returned arrays must not be modified.
+	 * <p>
+	 * This attachment must not be weighted. A weighted polygon can change shape, so it must be decomposed each time its world
+	 * vertices are computed. */
+	public short[][] getConvexPolygons () {
+		if (bones != null) throw new IllegalStateException("A weighted clipping attachment must be decomposed in world space.");
+		ConvexPolygons polygons = convexPolygons;
+		if (polygons == null || polygons.sourceVertices != vertices || polygons.sourceLength != worldVerticesLength) {
+			polygons = new ConvexPolygons(vertices, worldVerticesLength);
+			convexPolygons = polygons;
+		}
+		return polygons.polygons;
+	}
+
 	/** The color of the clipping attachment as it was in Spine, or a default color if nonessential data was not exported. Clipping
 	 * attachments are not usually rendered at runtime. */
 	public Color getColor () {
@@ -68,4 +86,17 @@ public class ClippingAttachment extends VertexAttachment {
 		copy.color.set(color);
 		return copy;
 	}
+
+	/** The decomposition of the local clipping polygon. */
+	static class ConvexPolygons {
+		final float[] sourceVertices;
+		final int sourceLength;
+		final short[][] polygons;
+
+		ConvexPolygons (float[] sourceVertices, int sourceLength) {
+			this.sourceVertices = sourceVertices;
+			this.sourceLength = sourceLength;
+			polygons = SkeletonClipping.decompose(sourceVertices, sourceLength);
+		}
+	}
 }
@@ -34,20 +34,31 @@ import static com.esotericsoftware.spine.utils.SpineUtils.*;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.Null;
 
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.Slot;
+
 /** An attachment that displays a textured mesh. A mesh has hull vertices and internal vertices within the hull. Holes are not
  * supported. Each vertex has UVs (texture coordinates) and triangles are used to map an image on to the mesh.
  * <p>
  * See <a href="http://esotericsoftware.com/spine-meshes">Mesh attachments</a> in the Spine User Guide. */
 public class MeshAttachment extends VertexAttachment {
+	/** Weighted meshes with fewer vertices are always transformed one vertex at a time. */
+	static private final int BONE_INFLUENCES_MIN_VERTICES = 16;
+
 	private TextureRegion region;
 	private String path;
 	private float[] regionUVs, uvs;
 	private short[] triangles;
+	private @Null short[][] lodTriangles;
 	private final Color color = new Color(1, 1, 1, 1);
 	private int hullLength;
 	private @Null MeshAttachment parentMesh;
+	private boolean boneInfluences = true;
+	private @Null BoneInfluences influences;
 
 	// Nonessential.
 	private @Null short[] edges;
@@ -67,6 +78,72 @@ public class MeshAttachment extends VertexAttachment {
 		return region;
 	}
 
+	/** When all world vertices of a weighted mesh are computed, the vertex influences are grouped by bone so each bone's world
+	 * transform is read once and the inner loop does only arithmetic. Otherwise this is the same as
+	 * {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)}. The order the influences are summed
+	 * differs, so results may differ in the last bits. */
+	public void computeWorldVertices (Slot slot, int start, int count, float[] worldVertices, int offset, int stride) {
+		if (bones == null || start != 0 || count != worldVerticesLength || !boneInfluences
+			|| count >> 1 < BONE_INFLUENCES_MIN_VERTICES) {
+			super.computeWorldVertices(slot, start, count, worldVertices, offset, stride);
+			return;
+		}
+		BoneInfluences influences = getInfluences();
+		int[] groupBones = influences.bones, groupEnds = influences.ends, targets = influences.targets;
+		float[] vertices = influences.vertices;
+
+		count = offset + (count >> 1) * stride;
+		for (int w = offset; w < count; w += stride) {
+			worldVertices[w] = 0;
+			worldVertices[w + 1] = 0;
+		}
+		Object[] skeletonBones = slot.getSkeleton().getBones().items;
+		FloatArray deformArray = slot.getDeform();
+		if (deformArray.size == 0) {
+			for (int g = 0, i = 0, n = groupBones.length; g < n; g++) {
+				Bone bone = (Bone)skeletonBones[groupBones[g]];
+				float a = bone.getA(), b = bone.getB(), c = bone.getC(), d = bone.getD(), x = bone.getWorldX(), y = bone.getWorldY();
+				for (int end = groupEnds[g], v = i * 3; i < end; i++, v += 3) {
+					float vx = vertices[v], vy = vertices[v + 1], weight = vertices[v + 2];
+					int w = offset + targets[i] * stride;
+					worldVertices[w] += (vx * a + vy * b + x) * weight;
+					worldVertices[w + 1] += (vx * c + vy * d + y) * weight;
+				}
+			}
+		} else {
+			float[] deform = deformArray.items;
+			int[] deformIndices = influences.deformIndices;
+			for (int g = 0, i = 0, n = groupBones.length; g < n; g++) {
+				Bone bone = (Bone)skeletonBones[groupBones[g]];
+				float a = bone.getA(), b = bone.getB(), c = bone.getC(), d = bone.getD(), x = bone.getWorldX(), y = bone.getWorldY();
+				for (int end = groupEnds[g], v = i * 3; i < end; i++, v += 3) {
+					int f = deformIndices[i];
+					float vx = vertices[v] + deform[f], vy = vertices[v + 1] + deform[f + 1], weight = vertices[v + 2];
+					int w = offset + targets[i] * stride;
+					worldVertices[w] += (vx * a + vy * b + x) * weight;
+					worldVertices[w + 1] += (vx * c + vy * d + y) * weight;
+				}
+			}
+		}
+	}
+
+	/** Returns the vertex influences grouped by bone, building them the first time or when the {@link #bones} or
+	 * {@link #vertices} have changed. Linked meshes share the parent mesh's influences. The mesh must be weighted. */
+	BoneInfluences getInfluences () {
+		if (parentMesh != null && parentMesh.bones == bones && parentMesh.vertices == vertices) return parentMesh.getInfluences();
+		BoneInfluences influences = this.influences;
+		if (influences == null || influences.sourceBones != bones || influences.sourceVertices != vertices) {
+			influences = new BoneInfluences(bones, vertices);
+			this.influences = influences;
+		}
+		return influences;
+	}
+
+	InfluenceOffsets getInfluenceOffsets () {
+		if (parentMesh != null && parentMesh.bones == bones) return parentMesh.getInfluenceOffsets();
+		return super.getInfluenceOffsets();
+	}
+
 	/** Calculates {@link #uvs} using {@link #regionUVs} and the {@link #region}. Must be called after changing the region UVs or
 	 * region. */
 	public void updateUVs () {
@@ -140,6 +217,28 @@ public class MeshAttachment extends VertexAttachment {
 		this.triangles = triangles;
 	}
 
+	/** Returns the triangles to draw at the specified {@link Skeleton#getLod() level of detail}: the {@link #getLodTriangles()}
+	 * for the highest level <= <code>lod</code> that has triangles, else {@link #getTriangles()}. */
+	public short[] getTriangles (int lod) {
+		short[][] lodTriangles = this.lodTriangles;
+		if (lodTriangles != null) {
+			for (int i = Math.min(lod, lodTriangles.length) - 1; i >= 0; i--)
+				if (lodTriangles[i] != null) return lodTriangles[i];
+		}
+		return triangles;
+	}
+
+	/** Triangles with fewer vertices or covering less of the mesh than {@link #getTriangles()}, used to draw the mesh at higher
+	 * levels of detail. The first entry is for level 1, the second for level 2, and so on. Entries may be null to use the
+	 * triangles for the previous level. The triangles index the same vertices as {@link #getTriangles()}. */
+	public @Null short[][] getLodTriangles () {
+		return lodTriangles;
+	}
+
+	public void setLodTriangles (@Null short[][] lodTriangles) {
+		this.lodTriangles = lodTriangles;
+	}
+
 	/** The UV pair for each vertex, normalized within the texture region. */
 	public float[] getRegionUVs () {
 		return regionUVs;
@@ -184,6 +283,17 @@ public class MeshAttachment extends VertexAttachment {
 		this.hullLength = hullLength;
 	}
 
+	/** When true and this mesh is weighted with at least 16 vertices, computing all of its world vertices transforms one bone at
+	 * a time, which is faster for large meshes. This costs memory: the influences are kept a second time grouped by bone, a
+	 * second copy of the x, y, and weight for every influence plus two indices per influence. Default is true. */
+	public boolean getBoneInfluences () {
+		return boneInfluences;
+	}
+
+	public void setBoneInfluences (boolean boneInfluences) {
+		this.boneInfluences = boneInfluences;
+	}
+
 	public void setEdges (short[] edges) {
 		this.edges = edges;
 	}
@@ -213,8 +323,9 @@ public class MeshAttachment extends VertexAttachment {
 	}
 
 	/** The parent mesh if this is a linked mesh, else null. A linked mesh shares the {@link #bones}, {@link #vertices},
-	 * {@link #regionUVs}, {@link #triangles}, {@link #hullLength}, {@link #edges}, {@link #width}, and {@link #height} with the
-	 * parent mesh, but may have a different {@link #name} or {@link #path} (and therefore a different texture). */
+	 * {@link #regionUVs}, {@link #triangles}, {@link #lodTriangles}, {@link #hullLength}, {@link #edges}, {@link #width}, and
+	 * {@link #height} with the parent mesh, but may have a different {@link #name} or {@link #path} (and therefore a different
+	 * texture). */
 	public @Null MeshAttachment getParentMesh () {
 		return parentMesh;
 	}
@@ -226,6 +337,7 @@ public class MeshAttachment extends VertexAttachment {
 			vertices = parentMesh.vertices;
 			regionUVs = parentMesh.regionUVs;
 			triangles = parentMesh.triangles;
+			lodTriangles = parentMesh.lodTriangles;
 			hullLength = parentMesh.hullLength;
 			worldVerticesLength = parentMesh.worldVerticesLength;
 			edges = parentMesh.edges;
@@ -250,6 +362,16 @@ public class MeshAttachment extends VertexAttachment {
 		copy.triangles = new short[triangles.length];
 		arraycopy(triangles, 0, copy.triangles, 0, triangles.length);
 		copy.hullLength = hullLength;
+		copy.boneInfluences = boneInfluences;
+		if (lodTriangles != null) {
+			copy.lodTriangles = new short[lodTriangles.length][];
+			for (int i = 0; i < lodTriangles.length; i++) {
+				short[] triangles = lodTriangles[i];
+				if (triangles == null) continue;
+				copy.lodTriangles[i] = new short[triangles.length];
+				arraycopy(triangles, 0, copy.lodTriangles[i], 0, triangles.length);
+			}
+		}
 
 		// Nonessential.
 		if (edges != null) {
@@ -268,8 +390,75 @@ public class MeshAttachment extends VertexAttachment {
 		mesh.path = path;
 		mesh.color.set(color);
 		mesh.deformAttachment = deformAttachment;
+		mesh.boneInfluences = boneInfluences;
 		mesh.setParentMesh(parentMesh != null ? parentMesh : this);
 		mesh.updateUVs();
 		return mesh;
 	}
+
+	/** The influences of a weighted mesh reordered so those for the same bone are contiguous. */
+	static class BoneInfluences {
+		final int[] sourceBones;
+		final float[] sourceVertices;
+		/** The skeleton bone index for each group of influences. */
+		final int[] bones;
+		/** The index after the last influence for each group. */
+		final int[] ends;
+		/** The vertex index for each influence. */
+		final int[] targets;
+		/** The {@link Slot#getDeform()} index for each influence. */
+		final int[] deformIndices;
+		/** The bone local x, y, and weight for each influence. */
+		final float[] vertices;
+
+		BoneInfluences (int[] sourceBones, float[] sourceVertices) {
+			this.sourceBones = sourceBones;
+			this.sourceVertices = sourceVertices;
+
+			// Count the influences for each bone.
+			int boneCount = 0, influenceCount = sourceVertices.length / 3;
+			for (int v = 0, n = sourceBones.length; v < n;) {
+				int end = v + sourceBones[v] + 1;
+				for (v++; v < end; v++)
+					boneCount = Math.max(boneCount, sourceBones[v] + 1);
+			}
+			int[] starts = new int[boneCount];
+			for (int v = 0, n = sourceBones.length; v < n;) {
+				int end = v + sourceBones[v] + 1;
+				for (v++; v < end; v++)
+					starts[sourceBones[v]]++;
+			}
+			int groupCount = 0;
+			for (int i = 0, start = 0; i < boneCount; i++) {
+				int influences = starts[i];
+				if (influences > 0) groupCount++;
+				starts[i] = start;
+				start += influences;
+			}
+			bones = new int[groupCount];
+			ends = new int[groupCount];
+			for (int i = 0, g = 0; i < boneCount; i++) {
+				int end = i + 1 < boneCount ? starts[i + 1] : influenceCount;
+				if (end == starts[i]) continue;
+				bones[g] = i;
+				ends[g++] = end;
+			}
+
+			// Place each influence after the others for the same bone.
+			targets = new int[influenceCount];
+			deformIndices = new int[influenceCount];
+			vertices = new float[influenceCount * 3];
+			for (int v = 0, n = sourceBones.length, vertex = 0, influence = 0; v < n; vertex++) {
+				int end = v + sourceBones[v] + 1;
+				for (v++; v < end; v++, influence++) {
+					int i = starts[sourceBones[v]]++, b = influence * 3;
+					targets[i] = vertex;
+					deformIndices[i] = influence << 1;
+					vertices[i * 3] = sourceVertices[b];
+					vertices[i * 3 + 1] = sourceVertices[b + 1];
+					vertices[i * 3 + 2] = sourceVertices[b + 2];
+				}
+			}
+		}
+	}
 }
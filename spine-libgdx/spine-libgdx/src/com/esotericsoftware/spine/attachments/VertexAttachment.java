@@ -48,6 +48,7 @@ abstract public class VertexAttachment extends Attachment {
 	float[] vertices;
 	int worldVerticesLength;
 	@Null VertexAttachment deformAttachment = this;
+	private @Null InfluenceOffsets influenceOffsets;
 
 	public VertexAttachment (String name) {
 		super(name);
@@ -82,10 +83,9 @@ abstract public class VertexAttachment extends Attachment {
 			return;
 		}
 		int v = 0, skip = 0;
-		for (int i = 0; i < start; i += 2) {
-			int n = bones[v];
-			v += n + 1;
-			skip += n;
+		if (start > 0) {
+			skip = getInfluenceOffsets().offsets[start >> 1];
+			v = skip + (start >> 1);
 		}
 		Object[] skeletonBones = slot.getSkeleton().getBones().items;
 		if (deformArray.size == 0) {
@@ -120,6 +120,17 @@ abstract public class VertexAttachment extends Attachment {
 		}
 	}
 
+	/** Returns the influence offsets for each vertex, building them the first time or when the {@link #bones} have changed. This
+	 * attachment must be weighted. */
+	InfluenceOffsets getInfluenceOffsets () {
+		InfluenceOffsets offsets = influenceOffsets;
+		if (offsets == null || offsets.sourceBones != bones) {
+			offsets = new InfluenceOffsets(bones);
+			influenceOffsets = offsets;
+		}
+		return offsets;
+	}
+
 	/** Deform keys for the deform attachment are also applied to this attachment.
 	 * @return May be null if no deform keys should be applied. */
 	public @Null VertexAttachment getDeformAttachment () {
@@ -190,4 +201,31 @@ abstract public class VertexAttachment extends Attachment {
 	static private synchronized int nextID () {
 		return nextID++;
 	}
+
+	/** The number of influences before each vertex of a weighted attachment, so the {@link #bones} and {@link #vertices} for a
+	 * vertex can be found without reading those before it. The fields are final and never modified, so an instance built by one
+	 * thread can safely be used by others. */
+	static class InfluenceOffsets {
+		final int[] sourceBones;
+		/** For each vertex, the index of its first x,y,weight triplet in {@link VertexAttachment#vertices} divided by 3. Its count
+		 * in {@link VertexAttachment#bones} is at this index plus the vertex index. The last entry is the total number of
+		 * influences, so a start at the end of the vertices is valid. */
+		final int[] offsets;
+
+		InfluenceOffsets (int[] sourceBones) {
+			this.sourceBones = sourceBones;
+			int vertexCount = 0;
+			for (int v = 0, n = sourceBones.length; v < n; vertexCount++)
+				v += sourceBones[v] + 1;
+			offsets = new int[vertexCount + 1];
+			int offset = 0;
+			for (int v = 0, i = 0; i < vertexCount; i++) {
+				offsets[i] = offset;
+				int count = sourceBones[v];
+				offset += count;
+				v += count + 1;
+			}
+			offsets[vertexCount] = offset;
+		}
+	}
 }
@@ -0,0 +1,152 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.utils;
+
+import java.util.Arrays;
+
+/** An unordered set of longs. Uses open addressing with linear probing, so no allocation is done except when growing the table.
+ * Zero is stored separately since it marks empty table entries. */
+public class LongSet {
+	public int size;
+
+	long[] keyTable;
+	boolean hasZeroValue;
+
+	private final float loadFactor;
+	private int threshold, shift, mask;
+
+	/** Creates a new set with an initial capacity of 51 and a load factor of 0.8. */
+	public LongSet () {
+		this(51, 0.8f);
+	}
+
+	/** Creates a new set with a load factor of 0.8.
+	 * @param initialCapacity The backing array size is initialCapacity / loadFactor, increased to the next power of two. */
+	public LongSet (int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** @param initialCapacity The backing array size is initialCapacity / loadFactor, increased to the next power of two. */
+	public LongSet (int initialCapacity, float loadFactor) {
+		if (loadFactor <= 0f || loadFactor >= 1f) throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+		resize(tableSize(initialCapacity, loadFactor));
+	}
+
+	private int place (long item) {
+		return (int)(item * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	/** Returns the index of the key if it is in the table, else -(index + 1) of the empty entry where it would be added. */
+	private int locateKey (long key) {
+		long[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			long other = keyTable[i];
+			if (other == 0) return -(i + 1);
+			if (other == key) return i;
+		}
+	}
+
+	/** Returns true if the key was not already in the set. */
+	public boolean add (long key) {
+		if (key == 0) {
+			if (hasZeroValue) return false;
+			hasZeroValue = true;
+			size++;
+			return true;
+		}
+		int i = locateKey(key);
+		if (i >= 0) return false;
+		keyTable[-(i + 1)] = key;
+		if (++size >= threshold) resize(keyTable.length << 1);
+		return true;
+	}
+
+	/** Returns true if any of the keys were not already in the set. */
+	public boolean addAll (long[] keys) {
+		ensureCapacity(keys.length);
+		boolean added = false;
+		for (int i = 0, n = keys.length; i < n; i++)
+			if (add(keys[i])) added = true;
+		return added;
+	}
+
+	public boolean contains (long key) {
+		if (key == 0) return hasZeroValue;
+		return locateKey(key) >= 0;
+	}
+
+	/** Removes all keys. The table is not resized. */
+	public void clear () {
+		if (size == 0) return;
+		size = 0;
+		hasZeroValue = false;
+		Arrays.fill(keyTable, 0);
+	}
+
+	/** Removes all keys and reduces the size of the table if it is larger than needed for the specified capacity. */
+	public void clear (int maximumCapacity) {
+		int tableSize = tableSize(maximumCapacity, loadFactor);
+		if (keyTable.length <= tableSize) {
+			clear();
+			return;
+		}
+		size = 0;
+		hasZeroValue = false;
+		keyTable = null; // Don't copy the keys.
+		resize(tableSize);
+	}
+
+	/** Increases the size of the table to accommodate the specified number of additional keys. */
+	public void ensureCapacity (int additionalCapacity) {
+		int tableSize = tableSize(size + additionalCapacity, loadFactor);
+		if (keyTable.length < tableSize) resize(tableSize);
+	}
+
+	private void resize (int newSize) {
+		long[] oldKeyTable = keyTable;
+		threshold = (int)(newSize * loadFactor);
+		mask = newSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+		keyTable = new long[newSize];
+		if (oldKeyTable == null) return;
+		for (int i = 0, n = oldKeyTable.length; i < n; i++) {
+			long key = oldKeyTable[i];
+			if (key != 0) keyTable[-(locateKey(key) + 1)] = key;
+		}
+	}
+
+	static private int tableSize (int capacity, float loadFactor) {
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		int tableSize = Integer.highestOneBit(Math.max(2, (int)Math.ceil(capacity / loadFactor)) - 1) << 1;
+		if (tableSize > 1 << 30) throw new IllegalArgumentException("The required capacity is too large: " + capacity);
+		return tableSize;
+	}
+}
@@ -31,6 +31,8 @@ package com.esotericsoftware.spine.utils;
 
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.ShortArray;
 
 import com.esotericsoftware.spine.Slot;
@@ -43,9 +45,20 @@ public class SkeletonClipping {
 	private final FloatArray clippedVertices = new FloatArray(128);
 	private final ShortArray clippedTriangles = new ShortArray(128);
 	private final FloatArray scratch = new FloatArray();
+	private final Array<FloatArray> convexPolygons = new Array(false, 16);
+	private final Pool<FloatArray> polygonPool = new Pool() {
+		protected FloatArray newObject () {
+			return new FloatArray(16);
+		}
+	};
 
 	private ClippingAttachment clipAttachment;
 	private Array<FloatArray> clippingPolygons;
+	private final FloatArray clippingBounds = new FloatArray(); // minX, minY, maxX, maxY for all polygons, then each polygon.
+
+	private @Null ClippingAttachment deformAttachment;
+	private final FloatArray deformVertices = new FloatArray();
+	private @Null short[][] deformPolygons;
 
 	public void clipStart (Slot slot, ClippingAttachment clip) {
 		if (clipAttachment != null) return;
@@ -55,14 +68,89 @@ public class SkeletonClipping {
 
 		float[] vertices = clippingPolygon.setSize(n);
 		clip.computeWorldVertices(slot, 0, n, vertices, 0, 2);
-		makeClockwise(clippingPolygon);
-		ShortArray triangles = triangulator.triangulate(clippingPolygon);
-		clippingPolygons = triangulator.decompose(clippingPolygon, triangles);
-		for (FloatArray polygon : clippingPolygons) {
-			makeClockwise(polygon);
-			polygon.add(polygon.items[0]);
-			polygon.add(polygon.items[1]);
+
+		// A weighted polygon can change shape, so it is decomposed in world space every time.
+		if (clip.getBones() != null) {
+			makeClockwise(clippingPolygon);
+			ShortArray triangles = triangulator.triangulate(clippingPolygon);
+			clippingPolygons = triangulator.decompose(clippingPolygon, triangles);
+			for (FloatArray polygon : clippingPolygons) {
+				makeClockwise(polygon);
+				polygon.add(polygon.items[0]);
+				polygon.add(polygon.items[1]);
+			}
+			computeBounds();
+			return;
 		}
+
+		// An unweighted polygon's decomposition is the same in local and world space, so it only changes with the deform.
+		short[][] indices;
+		FloatArray deform = slot.getDeform();
+		if (deform.size == 0)
+			indices = clip.getConvexPolygons();
+		else {
+			if (deformAttachment != clip || !deformVertices.equals(deform)) {
+				deformAttachment = clip;
+				deformVertices.clear();
+				deformVertices.addAll(deform);
+				deformPolygons = decompose(triangulator, deform.items, n);
+			}
+			indices = deformPolygons;
+		}
+
+		Array<FloatArray> convexPolygons = this.convexPolygons;
+		polygonPool.freeAll(convexPolygons);
+		convexPolygons.clear();
+		for (int i = 0, polygonCount = indices.length; i < polygonCount; i++) {
+			short[] polygonIndices = indices[i];
+			int count = polygonIndices.length;
+			FloatArray polygon = polygonPool.obtain();
+			float[] polygonVertices = polygon.setSize((count << 1) + 2);
+			for (int ii = 0, p = 0; ii < count; ii++, p += 2) {
+				int v = polygonIndices[ii];
+				polygonVertices[p] = vertices[v];
+				polygonVertices[p + 1] = vertices[v + 1];
+			}
+			polygon.size -= 2;
+			makeClockwise(polygon); // The bone's world transform may mirror the polygon.
+			polygon.add(polygonVertices[0]);
+			polygon.add(polygonVertices[1]);
+			convexPolygons.add(polygon);
+		}
+		clippingPolygons = convexPolygons;
+		computeBounds();
+	}
+
+	private void computeBounds () {
+		Object[] polygons = clippingPolygons.items;
+		int polygonsCount = clippingPolygons.size;
+		float[] bounds = clippingBounds.setSize(4 + (polygonsCount << 2));
+		float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+		for (int p = 0, b = 4; p < polygonsCount; p++, b += 4) {
+			FloatArray polygon = (FloatArray)polygons[p];
+			float[] vertices = polygon.items;
+			float polygonMinX = Float.MAX_VALUE, polygonMinY = Float.MAX_VALUE;
+			float polygonMaxX = -Float.MAX_VALUE, polygonMaxY = -Float.MAX_VALUE;
+			for (int i = 0, n = polygon.size; i < n; i += 2) {
+				float x = vertices[i], y = vertices[i + 1];
+				polygonMinX = Math.min(polygonMinX, x);
+				polygonMinY = Math.min(polygonMinY, y);
+				polygonMaxX = Math.max(polygonMaxX, x);
+				polygonMaxY = Math.max(polygonMaxY, y);
+			}
+			bounds[b] = polygonMinX;
+			bounds[b + 1] = polygonMinY;
+			bounds[b + 2] = polygonMaxX;
+			bounds[b + 3] = polygonMaxY;
+			minX = Math.min(minX, polygonMinX);
+			minY = Math.min(minY, polygonMinY);
+			maxX = Math.max(maxX, polygonMaxX);
+			maxY = Math.max(maxY, polygonMaxY);
+		}
+		bounds[0] = minX;
+		bounds[1] = minY;
+		bounds[2] = maxX;
+		bounds[3] = maxY;
 	}
 
 	public void clipEnd (Slot slot) {
@@ -89,6 +177,8 @@ public class SkeletonClipping {
 		ShortArray clippedTriangles = this.clippedTriangles;
 		Object[] polygons = clippingPolygons.items;
 		int polygonsCount = clippingPolygons.size;
+		float[] bounds = clippingBounds.items;
+		float clipMinX = bounds[0], clipMinY = bounds[1], clipMaxX = bounds[2], clipMaxY = bounds[3];
 		int vertexSize = twoColor ? 6 : 5;
 
 		short index = 0;
@@ -108,9 +198,22 @@ public class SkeletonClipping {
 			float x3 = vertices[vertexOffset], y3 = vertices[vertexOffset + 1];
 			float u3 = uvs[vertexOffset], v3 = uvs[vertexOffset + 1];
 
-			for (int p = 0; p < polygonsCount; p++) {
+			// Triangles outside the bounds of all the polygons are dropped without clipping.
+			float minX = Math.min(x1, Math.min(x2, x3)), minY = Math.min(y1, Math.min(y2, y3));
+			float maxX = Math.max(x1, Math.max(x2, x3)), maxY = Math.max(y1, Math.max(y2, y3));
+			if (maxX < clipMinX || minX > clipMaxX || maxY < clipMinY || minY > clipMaxY) continue;
+
+			for (int p = 0, o = 4; p < polygonsCount; p++, o += 4) {
+				float polygonMinX = bounds[o], polygonMinY = bounds[o + 1], polygonMaxX = bounds[o + 2], polygonMaxY = bounds[o + 3];
+				if (maxX < polygonMinX || minX > polygonMaxX || maxY < polygonMinY || minY > polygonMaxY) continue;
+
+				// Triangles inside a polygon are kept without clipping. Only a triangle inside the polygon's bounds can be.
+				FloatArray polygon = (FloatArray)polygons[p];
+				boolean inside = minX >= polygonMinX && maxX <= polygonMaxX && minY >= polygonMinY && maxY <= polygonMaxY
+					&& contains(polygon, x1, y1) && contains(polygon, x2, y2) && contains(polygon, x3, y3);
+
 				int s = clippedVertices.size;
-				if (clip(x1, y1, x2, y2, x3, y3, (FloatArray)polygons[p], clipOutput)) {
+				if (!inside && clip(x1, y1, x2, y2, x3, y3, polygon, clipOutput)) {
 					int clipOutputLength = clipOutput.size;
 					if (clipOutputLength == 0) continue;
 					float d0 = y2 - y3, d1 = x3 - x2, d2 = x1 - x3, d4 = y3 - y1;
@@ -297,6 +400,19 @@ public class SkeletonClipping {
 		return clipped;
 	}
 
+	/** Returns true if the point is inside the convex, clockwise polygon, using the same test as
+	 * {@link #clip(float, float, float, float, float, float, FloatArray, FloatArray)}. The polygon must duplicate the first vertex
+	 * at the end of the vertices list. */
+	static private boolean contains (FloatArray polygon, float x, float y) {
+		float[] vertices = polygon.items;
+		for (int i = 0, n = polygon.size - 2; i < n; i += 2) {
+			float edgeX = vertices[i], edgeY = vertices[i + 1];
+			float edgeX2 = vertices[i + 2], edgeY2 = vertices[i + 3];
+			if (!((edgeX - edgeX2) * (y - edgeY2) - (edgeY - edgeY2) * (x - edgeX2) > 0)) return false;
+		}
+		return true;
+	}
+
 	public FloatArray getClippedVertices () {
 		return clippedVertices;
 	}
@@ -305,7 +421,35 @@ public class SkeletonClipping {
 		return clippedTriangles;
 	}
 
-	static void makeClockwise (FloatArray polygon) {
+	/** Decomposes a polygon into convex polygons.
+	 * @param length The number of polygon vertex values, at least 6.
+	 * @return For each convex polygon, the offset in <code>vertices</code> of the x value for each of the polygon's vertices. */
+	static public short[][] decompose (float[] vertices, int length) {
+		return decompose(new Triangulator(), vertices, length);
+	}
+
+	static private short[][] decompose (Triangulator triangulator, float[] vertices, int length) {
+		FloatArray polygon = new FloatArray(length);
+		polygon.addAll(vertices, 0, length);
+		boolean reversed = makeClockwise(polygon);
+		triangulator.decompose(polygon, triangulator.triangulate(polygon));
+		Array<ShortArray> polygonsIndices = triangulator.getConvexPolygonsIndices();
+		short[][] polygons = new short[polygonsIndices.size][];
+		for (int i = 0, n = polygons.length; i < n; i++) {
+			ShortArray polygonIndices = polygonsIndices.get(i);
+			short[] offsets = new short[polygonIndices.size];
+			for (int ii = 0, nn = offsets.length; ii < nn; ii++) {
+				int offset = polygonIndices.get(ii);
+				offsets[ii] = (short)(reversed ? length - 2 - offset : offset);
+			}
+			polygons[i] = offsets;
+		}
+		return polygons;
+	}
+
+	/** Reverses the polygon's vertices if they are not clockwise.
+	 * @return True if the vertices were reversed. */
+	static boolean makeClockwise (FloatArray polygon) {
 		float[] vertices = polygon.items;
 		int verticeslength = polygon.size;
 
@@ -317,7 +461,7 @@ public class SkeletonClipping {
 			p2y = vertices[i + 3];
 			area += p1x * p2y - p2x * p1y;
 		}
-		if (area < 0) return;
+		if (area < 0) return false;
 
 		for (int i = 0, lastX = verticeslength - 2, n = verticeslength >> 1; i < n; i += 2) {
 			float x = vertices[i], y = vertices[i + 1];
@@ -327,5 +471,6 @@ public class SkeletonClipping {
 			vertices[other] = x;
 			vertices[other + 1] = y;
 		}
+		return true;
 	}
 }
@@ -0,0 +1,143 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.BoneData;
+import com.esotericsoftware.spine.ConstraintData;
+import com.esotericsoftware.spine.IkConstraintData;
+import com.esotericsoftware.spine.PathConstraintData;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.SlotData;
+import com.esotericsoftware.spine.TransformConstraintData;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Assigns {@link Skeleton#getLod() levels of detail} to the bones, slots, and constraints of skeleton data, using each bone's
+ * depth in the bone hierarchy and the area of each slot's setup pose attachment. A level of detail that was already assigned is
+ * kept if it omits the bone, slot, or constraint at a lower level, so important items can be tagged by hand first. */
+public class SkeletonLod {
+	/** @param boneDepths For each level of detail starting at level 1, the greatest depth of the bones that are not omitted. The
+	 *           root bone has depth 0. May be null.
+	 * @param slotAreas For each level of detail starting at level 1, the smallest area of a slot's attachment, in the setup pose
+	 *           and in world units, for the slot to not be omitted. May be null. */
+	static public void assign (SkeletonData data, @Null int[] boneDepths, @Null float[] slotAreas) {
+		if (data == null) throw new IllegalArgumentException("data cannot be null.");
+
+		Array<BoneData> bones = data.getBones();
+		int[] depths = new int[bones.size];
+		for (int i = 0, n = bones.size; i < n; i++) { // Parents are before children.
+			BoneData bone = bones.get(i);
+			int depth = bone.getParent() == null ? 0 : depths[bone.getParent().getIndex()] + 1;
+			depths[i] = depth;
+			if (boneDepths != null) {
+				for (int level = 0; level < boneDepths.length; level++) {
+					if (depth > boneDepths[level]) {
+						bone.setLod(min(bone.getLod(), level + 1));
+						break;
+					}
+				}
+			}
+		}
+
+		if (slotAreas != null) {
+			Skeleton skeleton = new Skeleton(data);
+			skeleton.updateWorldTransform();
+			float[] vertices = new float[8];
+			for (Slot slot : skeleton.getSlots()) {
+				Attachment attachment = slot.getAttachment();
+				int count;
+				if (attachment instanceof RegionAttachment) {
+					((RegionAttachment)attachment).computeWorldVertices(slot.getBone(), vertices, 0, 2);
+					count = 8;
+				} else if (attachment instanceof MeshAttachment) {
+					MeshAttachment mesh = (MeshAttachment)attachment;
+					count = mesh.getWorldVerticesLength();
+					if (vertices.length < count) vertices = new float[count];
+					mesh.computeWorldVertices(slot, 0, count, vertices, 0, 2);
+					if (mesh.getHullLength() > 0) count = mesh.getHullLength();
+				} else
+					continue;
+				float area = area(vertices, count);
+				SlotData slotData = slot.getData();
+				for (int level = 0; level < slotAreas.length; level++) {
+					if (area < slotAreas[level]) {
+						slotData.setLod(min(slotData.getLod(), level + 1));
+						break;
+					}
+				}
+			}
+		}
+
+		// A constraint is omitted when its target or any bone it changes is omitted.
+		for (IkConstraintData constraint : data.getIkConstraints())
+			assign(constraint, constraint.getTarget(), constraint.getBones());
+		for (TransformConstraintData constraint : data.getTransformConstraints())
+			assign(constraint, constraint.getTarget(), constraint.getBones());
+		for (PathConstraintData constraint : data.getPathConstraints())
+			assign(constraint, constraint.getTarget().getBoneData(), constraint.getBones());
+	}
+
+	static private void assign (ConstraintData constraint, BoneData target, Array<BoneData> bones) {
+		int lod = min(constraint.getLod(), effectiveLod(target));
+		for (int i = 0, n = bones.size; i < n; i++)
+			lod = min(lod, effectiveLod(bones.get(i)));
+		constraint.setLod(lod);
+	}
+
+	/** Returns the lowest level of detail at which the bone or an ancestor is omitted, or 0. */
+	static private int effectiveLod (BoneData bone) {
+		int lod = 0;
+		for (; bone != null; bone = bone.getParent())
+			lod = min(lod, bone.getLod());
+		return lod;
+	}
+
+	/** Returns the lowest level of detail that is not 0, or 0 if both are 0. */
+	static private int min (int lod1, int lod2) {
+		if (lod1 == 0) return lod2;
+		if (lod2 == 0) return lod1;
+		return Math.min(lod1, lod2);
+	}
+
+	/** Returns the area of the polygon with the specified x,y vertices. */
+	static private float area (float[] vertices, int count) {
+		float area = 0;
+		for (int i = 0, j = count - 2; i < count; j = i, i += 2)
+			area += vertices[j] * vertices[i + 1] - vertices[i] * vertices[j + 1];
+		return Math.abs(area) / 2;
+	}
+}
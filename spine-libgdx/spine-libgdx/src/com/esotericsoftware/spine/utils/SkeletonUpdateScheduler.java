@@ -0,0 +1,171 @@
+/******************************************************************************
+ * Spine Runtimes License Agreement
+ * Last updated January 1, 2020. Replaces all prior versions.
+ *
+ * Copyright (c) 2013-2020, Esoteric Software LLC
+ *
+ * Integration of the Spine Runtimes into software or otherwise creating
+ * derivative works of the Spine Runtimes is permitted under the terms and
+ * conditions of Section 2 of the Spine Editor License Agreement:
+ * http://esotericsoftware.com/spine-editor-license
+ *
+ * Otherwise, it is permitted to integrate the Spine Runtimes into software
+ * or otherwise create derivative works of the Spine Runtimes (collectively,
+ * "Products"), provided that each user of the Products must obtain their own
+ * Spine Editor license and redistribution of the Products in any form must
+ * include this license and copyright notice.
+ *
+ * THE SPINE RUNTIMES ARE PROVIDED BY ESOTERIC SOFTWARE LLC "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL ESOTERIC SOFTWARE LLC BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES,
+ * BUSINESS INTERRUPTION, OR LOSS OF USE, DATA, OR PROFITS) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THE SPINE RUNTIMES, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.Skeleton;
+
+/** Updates many independent skeletons in parallel. For each skeleton {@link AnimationState#update(float)},
+ * {@link AnimationState#apply(Skeleton)}, and {@link Skeleton#updateWorldTransform()} are run on a work stealing
+ * {@link ForkJoinPool}, in chunks of {@link #getChunkSize()} skeletons. {@link #update(float)} returns after all skeletons have
+ * been updated, so afterward the skeletons can be rendered.
+ * <p>
+ * Listener notifications are {@link AnimationState#setDeferListenerNotifications(boolean) deferred} while updating, then
+ * delivered on the thread that called {@link #update(float)}, in the order the skeletons were added. It is safe to add and remove
+ * skeletons from a listener.
+ * <p>
+ * Each skeleton and animation state must be added only once and must not be accessed by other threads during
+ * {@link #update(float)}. Skeleton data, animation state data, and skins may be shared.
+ * <p>
+ * This class is not available on GWT. */
+public class SkeletonUpdateScheduler {
+	private final ForkJoinPool pool;
+	private final Array<Skeleton> skeletons = new Array();
+	private final SnapshotArray<AnimationState> states = new SnapshotArray(AnimationState.class);
+	private int chunkSize = 16;
+	float delta;
+
+	/** @param pool Runs the updates. The pool is not shut down by the scheduler. */
+	public SkeletonUpdateScheduler (ForkJoinPool pool) {
+		if (pool == null) throw new IllegalArgumentException("pool cannot be null.");
+		this.pool = pool;
+	}
+
+	/** Adds a skeleton to be updated and posed by the animation state. The animation state's listener notifications are deferred
+	 * until they are delivered by {@link #update(float)}. */
+	public void add (Skeleton skeleton, AnimationState state) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		if (state == null) throw new IllegalArgumentException("state cannot be null.");
+		state.setDeferListenerNotifications(true);
+		skeletons.add(skeleton);
+		states.add(state);
+	}
+
+	/** Removes the skeleton and delivers any of its animation state's listener notifications that are still queued.
+	 * @return False if the skeleton was not added. */
+	public boolean remove (Skeleton skeleton) {
+		int index = skeletons.indexOf(skeleton, true);
+		if (index == -1) return false;
+		skeletons.removeIndex(index);
+		AnimationState state = states.removeIndex(index);
+		state.setDeferListenerNotifications(false);
+		state.drainListenerNotifications();
+		return true;
+	}
+
+	/** Removes all skeletons. Queued listener notifications are delivered. */
+	public void clear () {
+		AnimationState[] states = this.states.begin();
+		for (int i = 0, n = this.states.size; i < n; i++) {
+			states[i].setDeferListenerNotifications(false);
+			states[i].drainListenerNotifications();
+		}
+		this.states.end();
+		this.states.clear();
+		skeletons.clear();
+	}
+
+	/** Updates and applies each animation state, then updates each skeleton's world transform, in parallel. Returns when all
+	 * skeletons are done, after delivering the listener notifications on the calling thread. */
+	public void update (float delta) {
+		int n = skeletons.size;
+		if (n == 0) return;
+		this.delta = delta;
+		if (n <= chunkSize)
+			update(0, n);
+		else
+			pool.invoke(new Chunk(0, n));
+
+		AnimationState[] states = this.states.begin();
+		for (int i = 0; i < n; i++)
+			states[i].drainListenerNotifications();
+		this.states.end();
+	}
+
+	void update (int start, int end) {
+		float delta = this.delta;
+		Object[] skeletons = this.skeletons.items;
+		AnimationState[] states = this.states.items;
+		for (int i = start; i < end; i++) {
+			Skeleton skeleton = (Skeleton)skeletons[i];
+			AnimationState state = states[i];
+			state.update(delta);
+			state.apply(skeleton);
+			skeleton.updateWorldTransform();
+		}
+	}
+
+	/** The maximum number of skeletons updated by one task. Smaller chunks balance the work across threads better, larger chunks
+	 * have less overhead. Defaults to 16. */
+	public int getChunkSize () {
+		return chunkSize;
+	}
+
+	public void setChunkSize (int chunkSize) {
+		if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be > 0: " + chunkSize);
+		this.chunkSize = chunkSize;
+	}
+
+	/** The number of skeletons that are updated. */
+	public int getSize () {
+		return skeletons.size;
+	}
+
+	public ForkJoinPool getPool () {
+		return pool;
+	}
+
+	/** Updates a range of skeletons, splitting it in half until it is no larger than the chunk size. */
+	class Chunk extends RecursiveAction {
+		static private final long serialVersionUID = 1L;
+
+		final int start, end;
+
+		Chunk (int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		protected void compute () {
+			if (end - start <= chunkSize) {
+				update(start, end);
+				return;
+			}
+			int middle = (start + end) >>> 1;
+			invokeAll(new Chunk(start, middle), new Chunk(middle, end));
+		}
+	}
+}
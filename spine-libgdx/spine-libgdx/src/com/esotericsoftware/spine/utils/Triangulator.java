@@ -263,6 +263,12 @@ class Triangulator {
 		return convexPolygons;
 	}
 
+	/** The vertex indices for each polygon returned by the last call to {@link #decompose(FloatArray, ShortArray)}. Each index is
+	 * the offset of the vertex's x value in the decomposed vertices. */
+	public Array<ShortArray> getConvexPolygonsIndices () {
+		return convexPolygonsIndices;
+	}
+
 	static private boolean isConcave (int index, int vertexCount, float[] vertices, short[] indices) {
 		int previous = indices[(vertexCount + index - 1) % vertexCount] << 1;
 		int current = indices[index] << 1;